@@ -0,0 +1,47 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.benchmark;
+
+import juzu.impl.common.Tools;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+/**
+ * Benchmark the html escaping of a text.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+@State(Scope.Thread)
+public class EncodeHtmlBenchmark {
+
+  @Param({"The hotel is located in the heart of the city", "<b>Tom & Jerry's</b> \"favourite\" hotel"})
+  public String text;
+
+  /** . */
+  private final StringBuilder buffer = new StringBuilder();
+
+  @Benchmark
+  public StringBuilder encodeHtmlText() throws IOException {
+    buffer.setLength(0);
+    Tools.encodeHtmlText(text, 0, text.length(), buffer);
+    return buffer;
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.benchmark;
+
+import juzu.HttpMethod;
+import juzu.asset.AssetLocation;
+import juzu.impl.bridge.spi.ScopedContext;
+import juzu.impl.bridge.spi.servlet.ServletScopedContext;
+import juzu.impl.bridge.spi.web.HttpStream;
+import juzu.impl.bridge.spi.web.WebBridge;
+import juzu.impl.bridge.spi.web.WebRequestContext;
+import juzu.impl.common.Logger;
+import juzu.impl.common.RunMode;
+import juzu.impl.common.Tools;
+import juzu.impl.io.BinaryOutputStream;
+import juzu.io.Stream;
+import juzu.request.ApplicationContext;
+import juzu.request.ClientContext;
+import juzu.request.HttpContext;
+import juzu.request.RequestParameter;
+import juzu.request.SecurityContext;
+import juzu.request.UserContext;
+
+import javax.servlet.http.Cookie;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A web bridge for a single <code>GET</code> request to the application root, the response body is collected
+ * in memory.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+public class MockWebBridge extends WebBridge implements HttpContext, UserContext {
+
+  /** . */
+  private final String requestPath;
+
+  /** . */
+  private final Context context = new Context();
+
+  /** . */
+  private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+  /** . */
+  private int status;
+
+  /** . */
+  private ScopedContext requestScope;
+
+  public MockWebBridge() {
+    this("/");
+  }
+
+  public MockWebBridge(String requestPath) {
+    this.requestPath = requestPath;
+  }
+
+  public int getStatus() {
+    return status;
+  }
+
+  public String getBody() {
+    return new String(body.toByteArray(), Tools.UTF_8);
+  }
+
+  @Override
+  public Logger getLogger(String name) {
+    return Logger.SYSTEM;
+  }
+
+  @Override
+  public WebRequestContext getRequestContext() {
+    return context;
+  }
+
+  @Override
+  public void renderRequestURL(Appendable appendable) throws IOException {
+    appendable.append("http://localhost/app");
+  }
+
+  @Override
+  public void execute(Runnable runnable) throws RejectedExecutionException {
+    runnable.run();
+  }
+
+  @Override
+  public ScopedContext getRequestScope(boolean create) {
+    if (requestScope == null && create) {
+      requestScope = new ServletScopedContext(Logger.SYSTEM);
+    }
+    return requestScope;
+  }
+
+  @Override
+  public ScopedContext getFlashScope(boolean create) {
+    return null;
+  }
+
+  @Override
+  public ScopedContext getSessionScope(boolean create) {
+    return null;
+  }
+
+  @Override
+  public void purgeSession() {
+  }
+
+  @Override
+  public HttpContext getHttpContext() {
+    return this;
+  }
+
+  @Override
+  public ClientContext getClientContext() {
+    return null;
+  }
+
+  @Override
+  public UserContext getUserContext() {
+    return this;
+  }
+
+  @Override
+  public ApplicationContext getApplicationContext() {
+    return null;
+  }
+
+  @Override
+  public SecurityContext getSecurityContext() {
+    return null;
+  }
+
+  // HttpContext implementation
+
+  public HttpMethod getMethod() {
+    return HttpMethod.GET;
+  }
+
+  public Cookie[] getCookies() {
+    return new Cookie[0];
+  }
+
+  public String getScheme() {
+    return "http";
+  }
+
+  public int getServerPort() {
+    return 80;
+  }
+
+  public String getServerName() {
+    return "localhost";
+  }
+
+  public String getContextPath() {
+    return "/app";
+  }
+
+  // UserContext implementation
+
+  public Locale getLocale() {
+    return Locale.ENGLISH;
+  }
+
+  public Iterable<Locale> getLocales() {
+    return Collections.singletonList(Locale.ENGLISH);
+  }
+
+  private class Context extends WebRequestContext {
+
+    @Override
+    public RunMode getRunMode() {
+      return RunMode.PROD;
+    }
+
+    @Override
+    public Map<String, RequestParameter> getParameters() {
+      return Collections.emptyMap();
+    }
+
+    @Override
+    public String getRequestURI() {
+      return "/app" + requestPath;
+    }
+
+    @Override
+    public String getPath() {
+      return "";
+    }
+
+    @Override
+    public String getRequestPath() {
+      return requestPath;
+    }
+
+    @Override
+    public void setContentType(String mimeType, Charset charset) {
+    }
+
+    @Override
+    public void setStatus(int status) {
+      MockWebBridge.this.status = status;
+    }
+
+    @Override
+    public void setHeaders(Iterable<Map.Entry<String, String[]>> headers) {
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+      status = 302;
+    }
+
+    @Override
+    public HttpStream getStream(int status) {
+      return new HttpStream(this, status, Tools.UTF_8) {
+
+        /** . */
+        private Stream dataStream;
+
+        @Override
+        public void setStatusCode(int status) {
+          MockWebBridge.this.status = status;
+        }
+
+        @Override
+        protected Stream getDataStream(boolean create) {
+          if (dataStream == null && create) {
+            dataStream = new BinaryOutputStream(encoding, body);
+          }
+          return dataStream;
+        }
+
+        @Override
+        protected void endAsync() {
+        }
+
+        @Override
+        protected void beginAsync() {
+        }
+      };
+    }
+
+    @Override
+    public void renderAssetURL(AssetLocation location, String uri, Appendable appendable) throws IOException {
+      appendable.append("/app/assets").append(uri);
+    }
+  }
+}
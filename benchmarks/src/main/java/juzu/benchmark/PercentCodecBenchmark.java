@@ -0,0 +1,54 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.benchmark;
+
+import juzu.impl.common.PercentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark the percent encoding and decoding of a path segment.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+@State(Scope.Benchmark)
+public class PercentCodecBenchmark {
+
+  @Param({"hotels", "h\u00F4tels & suites/paris"})
+  public String value;
+
+  /** . */
+  private String encoded;
+
+  @Setup
+  public void setup() {
+    encoded = PercentCodec.RFC3986_SEGMENT.encode(value);
+  }
+
+  @Benchmark
+  public String encode() {
+    return PercentCodec.RFC3986_SEGMENT.encode(value);
+  }
+
+  @Benchmark
+  public String decode() {
+    return PercentCodec.RFC3986_SEGMENT.decode(encoded);
+  }
+}
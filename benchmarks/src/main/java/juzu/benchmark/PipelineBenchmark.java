@@ -0,0 +1,125 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.benchmark;
+
+import juzu.impl.bridge.Bridge;
+import juzu.impl.bridge.BridgeConfig;
+import juzu.impl.bridge.spi.web.Handler;
+import juzu.impl.common.Completion;
+import juzu.impl.common.Logger;
+import juzu.impl.common.Name;
+import juzu.impl.common.RunMode;
+import juzu.impl.inject.spi.InjectorProvider;
+import juzu.impl.plugin.application.Application;
+import juzu.test.AbstractTestCase;
+import juzu.test.CompilerAssert;
+import juzu.test.protocol.mock.MockApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.util.Collections;
+
+/**
+ * Benchmark a view request through the web bridge layer and the whole stage pipeline: route resolution by the
+ * web handler, unmarshalling, handler resolution, controller invocation, template rendering and the response
+ * streaming, with the {@link MockWebBridge}. The {@link #hello()} benchmark serves a view without template, run it
+ * with the <code>-prof gc</code> option to measure the allocation rate of the pipeline itself.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+
+  /** . */
+  private MockApplication<File> application;
+
+  /** . */
+  private Handler handler;
+
+  @Setup
+  public void setup() throws Exception {
+    if (System.getProperty("juzu.test.workspace.path") == null) {
+      System.setProperty("juzu.test.workspace.path", new File(System.getProperty("java.io.tmpdir"), "juzu-benchmarks").getAbsolutePath());
+    }
+    CompilerAssert<File, File> compiler = AbstractTestCase.compiler(false, Name.parse("juzu.benchmark.app"));
+    application = new MockApplication<File>(compiler, InjectorProvider.GUICE, Name.parse("juzu.benchmark.app")).init();
+    final Application app = application.getContext();
+    BridgeConfig config = new BridgeConfig(Logger.SYSTEM, Collections.<String, String>emptyMap());
+    Bridge bridge = new Bridge(null, config, null, null) {
+      @Override
+      public RunMode getRunMode() {
+        return RunMode.PROD;
+      }
+      @Override
+      public Completion<Boolean> refresh(boolean recompile) {
+        return Completion.completed(false);
+      }
+      @Override
+      public Application getApplication() {
+        return app;
+      }
+      public void close() {
+      }
+    };
+    handler = new Handler(bridge);
+
+    // Check the request is served
+    MockWebBridge check = new MockWebBridge();
+    try {
+      handler.handle(check);
+    }
+    catch (Throwable t) {
+      throw new Exception("Could not serve the request", t);
+    }
+    if (check.getStatus() != 200 || !check.getBody().contains("Hotel 19")) {
+      throw new Exception("Unexpected response " + check.getStatus() + " " + check.getBody());
+    }
+    check = new MockWebBridge("/hello");
+    try {
+      handler.handle(check);
+    }
+    catch (Throwable t) {
+      throw new Exception("Could not serve the request", t);
+    }
+    if (check.getStatus() != 200 || !check.getBody().contains("Hello World")) {
+      throw new Exception("Unexpected response " + check.getStatus() + " " + check.getBody());
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    application.close();
+  }
+
+  @Benchmark
+  public String render() throws Throwable {
+    MockWebBridge bridge = new MockWebBridge();
+    handler.handle(bridge);
+    return bridge.getBody();
+  }
+
+  @Benchmark
+  public String hello() throws Throwable {
+    MockWebBridge bridge = new MockWebBridge("/hello");
+    handler.handle(bridge);
+    return bridge.getBody();
+  }
+}
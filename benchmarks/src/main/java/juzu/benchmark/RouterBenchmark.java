@@ -0,0 +1,68 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.benchmark;
+
+import juzu.impl.router.Route;
+import juzu.impl.router.RouteMatch;
+import juzu.impl.router.Router;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Benchmark the routing of a path and the rendering of a route.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+@State(Scope.Benchmark)
+public class RouterBenchmark {
+
+  /** . */
+  private Router router;
+
+  /** . */
+  private Route hotel;
+
+  /** . */
+  private Map<String, String> parameters;
+
+  @Setup
+  public void setup() {
+    router = new Router();
+    router.append("/");
+    router.append("/login");
+    router.append("/hotels");
+    hotel = router.append("/hotels/{id}");
+    router.append("/hotels/{id}/book");
+    router.append("/bookings/{id}");
+    parameters = Collections.singletonMap("id", "42");
+  }
+
+  @Benchmark
+  public RouteMatch route() {
+    return router.route("/hotels/42/book");
+  }
+
+  @Benchmark
+  public String render() {
+    return hotel.matches(parameters).render();
+  }
+}
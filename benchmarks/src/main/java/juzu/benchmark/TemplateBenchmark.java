@@ -0,0 +1,81 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.benchmark;
+
+import juzu.impl.common.Tools;
+import juzu.impl.template.spi.TemplateStub;
+import juzu.impl.template.spi.juzu.ast.AbstractTemplateTestCase;
+import juzu.io.OutputStream;
+import juzu.template.TemplateRenderContext;
+import juzu.templating.mustache.TemplateStubImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark the rendering of the same list with the Groovy and the Mustache template stubs.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+@State(Scope.Benchmark)
+public class TemplateBenchmark {
+
+  /** . */
+  private TemplateStub groovy;
+
+  /** . */
+  private TemplateStub mustache;
+
+  /** . */
+  private Map<String, Object> attributes;
+
+  @Setup
+  public void setup() throws Exception {
+    groovy = new AbstractTemplateTestCase() {}.template("<ul><% hotels.each { hotel -> %><li>${hotel}</li><% } %></ul>");
+    mustache = new TemplateStubImpl(TemplateBenchmark.class.getClassLoader(), "juzu.benchmark.templates.hotels");
+    mustache.init();
+    List<String> hotels = new ArrayList<String>();
+    for (int i = 0;i < 20;i++) {
+      hotels.add("Hotel " + i);
+    }
+    attributes = Collections.<String, Object>singletonMap("hotels", hotels);
+  }
+
+  @Benchmark
+  public StringBuilder renderGroovy() throws Exception {
+    return render(groovy);
+  }
+
+  @Benchmark
+  public StringBuilder renderMustache() throws Exception {
+    return render(mustache);
+  }
+
+  private StringBuilder render(TemplateStub stub) throws Exception {
+    StringBuilder buffer = new StringBuilder();
+    OutputStream out = OutputStream.create(Tools.UTF_8, buffer);
+    new TemplateRenderContext(stub, attributes).render(out);
+    out.close(null);
+    return buffer;
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.benchmark.app;
+
+import juzu.Path;
+import juzu.Response;
+import juzu.Route;
+import juzu.View;
+import juzu.template.Template;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class A {
+
+  @Inject
+  @Path("index.gtmpl")
+  Template index;
+
+  @View
+  public Response.Content index() {
+    List<String> hotels = new ArrayList<String>();
+    for (int i = 0;i < 20;i++) {
+      hotels.add("Hotel " + i);
+    }
+    return index.with().set("hotels", hotels).ok();
+  }
+
+  @View
+  @Route("/hello")
+  public Response.Content hello() {
+    return Response.ok("Hello World");
+  }
+}
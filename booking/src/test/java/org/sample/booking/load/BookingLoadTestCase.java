@@ -0,0 +1,284 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sample.booking.load;
+
+import juzu.arquillian.Helper;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.sample.booking.Flash;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * Boots the booking application in the embedded servlet container and replays a fixed request mix with
+ * concurrent virtual users: hotel searches with the ajax resource, hotel views, the booking flow and asset
+ * fetches. It reports the throughput and the latency percentiles to the console and in
+ * <code>target/booking-load.properties</code>.
+ *
+ * It is only executed with the <code>load</code> profile:
+ * <code>mvn test -Pload -Dbooking.load.users=8 -Dbooking.load.requests=2000</code>.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+@RunWith(Arquillian.class)
+public class BookingLoadTestCase {
+
+  /** . */
+  private static final Pattern LOGIN_FORM = Pattern.compile("<form action=\"([^\"]+)\" class=\"formLogin\"");
+
+  /** . */
+  private static final Pattern SEARCH_URL = Pattern.compile("data-method-id=\"Hotels.list\" data-url=\"([^\"]+)\"");
+
+  /** . */
+  private static final Pattern SCRIPT = Pattern.compile("<script[^>]* src=\"([^\"]+)\"");
+
+  /** . */
+  private static final Pattern STYLESHEET = Pattern.compile("<link[^>]* href=\"([^\"]+)\"");
+
+  /** . */
+  private static final Pattern HOTEL = Pattern.compile("href=\"([^\"]*/hotels/\\d+)\"");
+
+  /** . */
+  private static final Pattern BOOK = Pattern.compile("href=\"([^\"]*/hotels/\\d+/booking)\"");
+
+  /** . */
+  private static final Pattern BOOKING_FORM = Pattern.compile("<form action=\"([^\"]+)\" method=\"post\"");
+
+  /** . */
+  private static final String BOOKING = "booking.checkinDate=2013-06-01&booking.checkoutDate=2013-06-05" +
+      "&booking.beds=1&booking.smoking=false&booking.creditCard=1234567890123456&booking.creditCardName=Demo+User" +
+      "&booking.creditCardExpiryMonth=1&booking.creditCardExpiryYear=2015&proceed=Proceed";
+
+  /** . */
+  private static final String[] SEARCHES = {"", "hotel", "miami", "park"};
+
+  /** The request mix replayed by each user. */
+  private static final Op[] MIX = {
+      Op.SEARCH, Op.SHOW, Op.ASSET, Op.SEARCH, Op.BOOK, Op.ASSET, Op.SEARCH, Op.SUBMIT, Op.INDEX, Op.ASSET
+  };
+
+  private enum Op {
+    INDEX, SEARCH, SHOW, BOOK, SUBMIT, ASSET
+  }
+
+  @Deployment(testable = false)
+  public static WebArchive createDeployment() {
+    WebArchive war = Helper.createBaseServletDeployment();
+    Helper.addClasses(war, Flash.class);
+    return war;
+  }
+
+  @ArquillianResource
+  URL deploymentURL;
+
+  @Test
+  @RunAsClient
+  public void testThroughput() throws Exception {
+    int users = Integer.getInteger("booking.load.users", 8);
+    final int warmup = Integer.getInteger("booking.load.warmup", 200);
+    final int requests = Integer.getInteger("booking.load.requests", 2000);
+
+    //
+    ExecutorService executor = Executors.newFixedThreadPool(users);
+    try {
+      List<Future<long[]>> futures = new ArrayList<Future<long[]>>();
+      long start = System.nanoTime();
+      for (int i = 0;i < users;i++) {
+        final int user = i;
+        futures.add(executor.submit(new Callable<long[]>() {
+          public long[] call() throws Exception {
+            return new User(user).run(warmup, requests);
+          }
+        }));
+      }
+      long[] latencies = new long[users * requests];
+      long measured = 0;
+      for (int i = 0;i < users;i++) {
+        long[] user = futures.get(i).get();
+        System.arraycopy(user, 1, latencies, i * requests, requests);
+        measured = Math.max(measured, user[0]);
+      }
+      long elapsed = System.nanoTime() - start;
+      report(users, latencies, measured > 0 ? measured : elapsed);
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void report(int users, long[] latencies, long nanos) throws IOException {
+    Arrays.sort(latencies);
+    double seconds = nanos / 1000000000D;
+    double throughput = latencies.length / seconds;
+    long total = 0;
+    for (long latency : latencies) {
+      total += latency;
+    }
+    StringBuilder report = new StringBuilder();
+    report.append("users=").append(users).append('\n');
+    report.append("requests=").append(latencies.length).append('\n');
+    report.append("throughput=").append(String.format("%.1f", throughput)).append('\n');
+    report.append("mean=").append(String.format("%.3f", total / (double)latencies.length / 1000000D)).append('\n');
+    report.append("p50=").append(String.format("%.3f", percentile(latencies, 50))).append('\n');
+    report.append("p99=").append(String.format("%.3f", percentile(latencies, 99))).append('\n');
+    System.out.println("Booking load (latencies in ms):\n" + report);
+    Writer writer = new FileWriter(new File(System.getProperty("targetDir", "target"), "booking-load.properties"));
+    try {
+      writer.append(report);
+    }
+    finally {
+      writer.close();
+    }
+  }
+
+  private static double percentile(long[] sorted, int percent) {
+    int index = (int)Math.ceil(sorted.length * percent / 100D) - 1;
+    return sorted[Math.max(0, index)] / 1000000D;
+  }
+
+  /**
+   * A virtual user logs in, discovers the application URLs and then replays the request mix.
+   */
+  private class User {
+
+    /** . */
+    private final int id;
+
+    /** . */
+    private final Session session;
+
+    /** . */
+    private String searchURL;
+
+    /** . */
+    private List<String> assets;
+
+    /** . */
+    private List<String> hotels;
+
+    /** . */
+    private String bookURL;
+
+    /** . */
+    private String bookingURL;
+
+    private User(int id) {
+      this.id = id;
+      this.session = new Session(deploymentURL);
+    }
+
+    /**
+     * Run the mix.
+     *
+     * @param warmup the number of requests not measured
+     * @param requests the number of measured requests
+     * @return the measured time followed by the latency of each request in nanoseconds
+     */
+    private long[] run(int warmup, int requests) throws Exception {
+      login();
+      for (int i = 0;i < warmup;i++) {
+        execute(i);
+      }
+      long[] latencies = new long[1 + requests];
+      long start = System.nanoTime();
+      for (int i = 0;i < requests;i++) {
+        long before = System.nanoTime();
+        execute(warmup + i);
+        latencies[1 + i] = System.nanoTime() - before;
+      }
+      latencies[0] = System.nanoTime() - start;
+      return latencies;
+    }
+
+    private void login() throws Exception {
+      session.get("");
+      assertStatus(200);
+      session.post(session.find(LOGIN_FORM), "username=demo&password=demo");
+      assertStatus(302);
+      session.get("");
+      assertStatus(200);
+      searchURL = session.find(SEARCH_URL);
+      assets = session.findAll(SCRIPT);
+      assets.addAll(session.findAll(STYLESHEET));
+      assertFalse("No assets found", assets.isEmpty());
+      session.get(search(""));
+      assertStatus(200);
+      hotels = session.findAll(HOTEL);
+      assertFalse("No hotels found", hotels.isEmpty());
+      session.get(hotels.get(0));
+      assertStatus(200);
+      bookURL = session.find(BOOK);
+      session.get(bookURL);
+      assertStatus(200);
+      bookingURL = session.find(BOOKING_FORM);
+    }
+
+    private String search(String search) {
+      return searchURL + (searchURL.indexOf('?') == -1 ? '?' : '&') + "search=" + search + "&size=5&page=0";
+    }
+
+    private void execute(int index) throws Exception {
+      int step = id + index;
+      switch (MIX[index % MIX.length]) {
+        case INDEX:
+          session.get("");
+          break;
+        case SEARCH:
+          session.get(search(SEARCHES[step % SEARCHES.length]));
+          break;
+        case SHOW:
+          session.get(hotels.get(step % hotels.size()));
+          break;
+        case BOOK:
+          session.get(bookURL);
+          break;
+        case SUBMIT:
+          session.post(bookingURL, BOOKING);
+          break;
+        case ASSET:
+          session.get(assets.get(step % assets.size()));
+          break;
+      }
+      if (session.status >= 400) {
+        throw new AssertionError("Unexpected status " + session.status + " for " + MIX[index % MIX.length] + ": " + session.body);
+      }
+    }
+
+    private void assertStatus(int expected) {
+      assertEquals(session.body, expected, session.status);
+    }
+  }
+}
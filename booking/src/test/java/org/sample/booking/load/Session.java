@@ -0,0 +1,140 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sample.booking.load;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A minimal http client keeping the session cookie of a virtual user.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+class Session {
+
+  /** . */
+  private static final Pattern SESSION_COOKIE = Pattern.compile("(JSESSIONID=[^;]*)");
+
+  /** . */
+  private final URL base;
+
+  /** . */
+  private String cookie;
+
+  Session(URL base) {
+    this.base = base;
+  }
+
+  /**
+   * The last response status.
+   */
+  int status;
+
+  /**
+   * The last response body.
+   */
+  String body;
+
+  Session get(String url) throws IOException {
+    return execute(url, null);
+  }
+
+  Session post(String url, String form) throws IOException {
+    return execute(url, form);
+  }
+
+  private Session execute(String url, String form) throws IOException {
+    HttpURLConnection conn = (HttpURLConnection)new URL(base, url).openConnection();
+    conn.setInstanceFollowRedirects(false);
+    if (cookie != null) {
+      conn.setRequestProperty("Cookie", cookie);
+    }
+    if (form != null) {
+      conn.setRequestMethod("POST");
+      conn.setDoOutput(true);
+      conn.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+      OutputStream out = conn.getOutputStream();
+      try {
+        out.write(form.getBytes("UTF-8"));
+      }
+      finally {
+        out.close();
+      }
+    }
+    status = conn.getResponseCode();
+    String setCookie = conn.getHeaderField("Set-Cookie");
+    if (setCookie != null) {
+      Matcher matcher = SESSION_COOKIE.matcher(setCookie);
+      if (matcher.find()) {
+        cookie = matcher.group(1);
+      }
+    }
+    InputStream in = status < 400 ? conn.getInputStream() : conn.getErrorStream();
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    if (in != null) {
+      try {
+        byte[] bytes = new byte[4096];
+        for (int l = in.read(bytes);l != -1;l = in.read(bytes)) {
+          buffer.write(bytes, 0, l);
+        }
+      }
+      finally {
+        in.close();
+      }
+    }
+    body = buffer.toString("UTF-8");
+    return this;
+  }
+
+  /**
+   * Find the first group of the pattern in the last response body.
+   *
+   * @param pattern the pattern
+   * @return the found value
+   * @throws AssertionError when the pattern is not found
+   */
+  String find(Pattern pattern) throws AssertionError {
+    Matcher matcher = pattern.matcher(body);
+    if (!matcher.find()) {
+      throw new AssertionError("Could not find " + pattern + " in " + body);
+    }
+    return matcher.group(1).replace("&amp;", "&");
+  }
+
+  /**
+   * Find all the first groups of the pattern in the last response body.
+   *
+   * @param pattern the pattern
+   * @return the found values
+   */
+  List<String> findAll(Pattern pattern) {
+    List<String> values = new ArrayList<String>();
+    Matcher matcher = pattern.matcher(body);
+    while (matcher.find()) {
+      values.add(matcher.group(1).replace("&amp;", "&"));
+    }
+    return values;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.bridge.portlet;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotate a view or resource controller method for declaring the portlet expiration cache of the markup
+ * it produces. The value can be overriden by the controller with the {@link JuzuPortlet#EXPIRATION_CACHE}
+ * response property.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ExpirationCache {
+
+  /**
+   * The expiration time in seconds, <code>-1</code> means that the markup never expires.
+   *
+   * @return the expiration time
+   */
+  int value();
+
+  /**
+   * When true the cached markup can be shared across users, otherwise it is cached per user.
+   *
+   * @return the cache scope
+   */
+  boolean shared() default false;
+
+}
@@ -16,7 +16,6 @@
 
 package juzu.bridge.portlet;
 
-import juzu.Consumes;
 import juzu.PropertyType;
 import juzu.impl.asset.AssetServer;
 import juzu.impl.bridge.Bridge;
@@ -41,6 +40,7 @@ import juzu.impl.inject.spi.InjectorProvider;
 import juzu.impl.inject.spi.spring.SpringInjector;
 import juzu.impl.plugin.controller.ControllerService;
 import juzu.impl.plugin.controller.ControllerResolver;
+import juzu.impl.plugin.controller.descriptor.ControllersDescriptor;
 import juzu.impl.request.ControllerHandler;
 import juzu.impl.resource.ResourceResolver;
 import juzu.request.Phase;
@@ -62,6 +62,7 @@ import javax.portlet.ResourceResponse;
 import javax.portlet.ResourceServingPortlet;
 import javax.portlet.UnavailableException;
 import javax.portlet.WindowState;
+import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -77,6 +78,18 @@ public class JuzuPortlet implements Portlet, ResourceServingPortlet, EventPortle
   /** . */
   public static final PropertyType<WindowState> WINDOW_STATE = new PropertyType<WindowState>(){};
 
+  /** The expiration time in seconds of the markup, overrides the {@link ExpirationCache} annotation. */
+  public static final PropertyType<Integer> EXPIRATION_CACHE = new PropertyType<Integer>(){};
+
+  /** When true the markup cache can be shared across users, overrides the {@link ExpirationCache} annotation. */
+  public static final PropertyType<Boolean> SHARED_CACHE = new PropertyType<Boolean>(){};
+
+  /**
+   * The validation token: as a request property it is the token of the markup cached by the portal, as a response
+   * property it is the token of the produced markup. When both tokens are equals the portal reuses the cached markup.
+   */
+  public static final PropertyType<String> ETAG = new PropertyType<String>(){};
+
   /** . */
   private Bridge bridge;
 
@@ -259,20 +272,33 @@ public class JuzuPortlet implements Portlet, ResourceServingPortlet, EventPortle
   }
 
   public void processEvent(EventRequest request, EventResponse response) throws PortletException, IOException {
-    ControllerResolver<ControllerHandler> resolver = bridge.getApplication().resolveBean(ControllerService.class).getDescriptor().getResolver();
-    List<ControllerHandler> handlers = resolver.resolveMethods(Phase.EVENT, null, request.getParameterMap().keySet());
+    ControllersDescriptor desc = bridge.getApplication().resolveBean(ControllerService.class).getDescriptor();
+
+    // An explicit match is more important than an empty match
+    QName name = request.getEvent().getQName();
+    List<ControllerHandler> consumers = desc.getConsumers(name.toString());
+    if (consumers.isEmpty()) {
+      consumers = desc.getConsumers(name.getLocalPart());
+      if (consumers.isEmpty()) {
+        consumers = desc.getConsumers("");
+      }
+    }
 
     //
-    ControllerHandler target = null;
-    for (ControllerHandler handler : handlers) {
-      Consumes consumes = handler.getMethod().getAnnotation(Consumes.class);
-      if (consumes.value().equals("")) {
-        target = handler;
-        // we don't break here on purpose because having empty match is less important
-        // than an explicit match
-      } else if (consumes.value().equals(request.getEvent().getName())) {
-        target = handler;
-        break;
+    ControllerHandler target;
+    if (consumers.isEmpty()) {
+      target = null;
+    } else if (consumers.size() == 1) {
+      target = consumers.get(0);
+    } else {
+      // Several consumers : use the best match for the current parameters
+      target = null;
+      ControllerResolver<ControllerHandler> resolver = desc.getResolver();
+      for (ControllerHandler handler : resolver.resolveMethods(Phase.EVENT, null, request.getParameterMap().keySet())) {
+        if (consumers.contains(handler)) {
+          target = handler;
+          break;
+        }
       }
     }
 
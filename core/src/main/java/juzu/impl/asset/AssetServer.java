@@ -17,6 +17,7 @@
 package juzu.impl.asset;
 
 import juzu.asset.AssetLocation;
+import juzu.impl.common.Spliterator;
 import juzu.impl.common.Timestamped;
 import juzu.impl.plugin.application.Application;
 import juzu.impl.common.Tools;
@@ -26,17 +27,24 @@ import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 public class AssetServer {
 
+  /** The maximum number of ranges of a request, a request with more ranges is served entirely. */
+  private static final int MAX_RANGES = 16;
+
   /** Application -> Dynamic. */
   HashMap<Application, Boolean> runtimes = new HashMap<Application, Boolean>();
 
@@ -69,19 +77,19 @@ public class AssetServer {
             }
           }
           if (content != null) {
-            InputStream in;
-            long lastModified;
             URLConnection conn = content.url.openConnection();
-            lastModified = conn.getLastModified();
+            long lastModified = conn.getLastModified();
             String etag = Tools.etag(path, lastModified);
             Enumeration<String> matches = req.getHeaders("If-None-Match");
             if (matches.hasMoreElements() && matches.nextElement().equals(etag)) {
               resp.setStatus(304);
             } else {
-              in = conn.getInputStream();
               int pos = path.lastIndexOf('/');
               String name = pos == -1 ? path : path.substring(pos + 1);
               resp.setHeader("ETag", etag);
+              if (lastModified > 0) {
+                resp.setDateHeader("Last-Modified", lastModified);
+              }
               boolean cacheAssets = runtime.getValue();
               if (cacheAssets) {
                 int maxAge = content.maxAge != null ? content.maxAge : 3600;
@@ -95,7 +103,58 @@ public class AssetServer {
               if (contentType != null) {
                 resp.setContentType(contentType);
               }
-              Tools.copy(in, resp.getOutputStream());
+              long length = conn.getContentLength();
+              List<long[]> ranges = null;
+              if (length >= 0) {
+                resp.setHeader("Accept-Ranges", "bytes");
+                String range = req.getHeader("Range");
+                if (range != null && isRangeValid(req, etag, lastModified)) {
+                  ranges = parseRanges(range, length);
+                }
+              }
+              InputStream in = conn.getInputStream();
+              try {
+                if (ranges == null) {
+                  Tools.copy(in, resp.getOutputStream());
+                } else if (ranges.isEmpty()) {
+                  resp.setStatus(416);
+                  resp.setHeader("Content-Range", "bytes */" + length);
+                } else if (ranges.size() == 1) {
+                  long[] range = ranges.get(0);
+                  resp.setStatus(206);
+                  resp.setHeader("Content-Range", "bytes " + range[0] + "-" + range[1] + "/" + length);
+                  resp.setHeader("Content-Length", Long.toString(range[1] - range[0] + 1));
+                  skip(in, range[0]);
+                  copy(in, range[1] - range[0] + 1, resp.getOutputStream());
+                } else {
+                  String boundary = Long.toHexString(Double.doubleToLongBits(Math.random()));
+                  resp.setStatus(206);
+                  resp.setContentType("multipart/byteranges; boundary=" + boundary);
+                  OutputStream out = resp.getOutputStream();
+                  long position = 0;
+                  for (long[] range : ranges) {
+                    if (range[0] < position) {
+                      // Ranges are sent in the requested order, so we may need to start over
+                      Tools.safeClose(in);
+                      in = content.url.openStream();
+                      position = 0;
+                    }
+                    StringBuilder part = new StringBuilder("\r\n--").append(boundary).append("\r\n");
+                    if (contentType != null) {
+                      part.append("Content-Type: ").append(contentType).append("\r\n");
+                    }
+                    part.append("Content-Range: bytes ").append(range[0]).append('-').append(range[1]).append('/').append(length).append("\r\n\r\n");
+                    out.write(part.toString().getBytes(Tools.ISO_8859_1));
+                    skip(in, range[0] - position);
+                    copy(in, range[1] - range[0] + 1, out);
+                    position = range[1] + 1;
+                  }
+                  out.write(("\r\n--" + boundary + "--\r\n").getBytes(Tools.ISO_8859_1));
+                }
+              }
+              finally {
+                Tools.safeClose(in);
+              }
             }
             return true;
           }
@@ -105,6 +164,105 @@ public class AssetServer {
     return false;
   }
 
+  /**
+   * Returns true when the ranges of the request can be served, i.e when the request has no <code>If-Range</code>
+   * header or when this header matches the etag or the last modified date of the resource.
+   */
+  private static boolean isRangeValid(HttpServletRequest req, String etag, long lastModified) {
+    String ifRange = req.getHeader("If-Range");
+    if (ifRange == null || ifRange.equals(etag)) {
+      return true;
+    } else {
+      try {
+        long date = req.getDateHeader("If-Range");
+        return lastModified > 0 && date / 1000 == lastModified / 1000;
+      }
+      catch (IllegalArgumentException e) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Parse a <code>Range</code> header value, the parsed ranges are bounded by the resource length and the
+   * unsatisfiable ranges are discarded.
+   *
+   * @param value the header value
+   * @param length the resource length
+   * @return the ranges or null when the header is not valid and should be ignored
+   */
+  static List<long[]> parseRanges(String value, long length) {
+    if (!value.startsWith("bytes=")) {
+      return null;
+    }
+    ArrayList<long[]> ranges = new ArrayList<long[]>();
+    for (String spec : Spliterator.split(value.substring("bytes=".length()), ',')) {
+      spec = spec.trim();
+      int dash = spec.indexOf('-');
+      if (dash == -1) {
+        return null;
+      }
+      long start;
+      long end;
+      try {
+        if (dash == 0) {
+          long suffix = Long.parseLong(spec.substring(1));
+          if (suffix < 0) {
+            return null;
+          }
+          start = Math.max(0, length - suffix);
+          end = length - 1;
+        } else {
+          start = Long.parseLong(spec.substring(0, dash));
+          if (start < 0) {
+            return null;
+          }
+          if (dash == spec.length() - 1) {
+            end = length - 1;
+          } else {
+            end = Long.parseLong(spec.substring(dash + 1));
+            if (end < start) {
+              return null;
+            }
+            end = Math.min(end, length - 1);
+          }
+        }
+      }
+      catch (NumberFormatException e) {
+        return null;
+      }
+      if (start <= end) {
+        ranges.add(new long[]{start, end});
+      }
+    }
+    return ranges.size() > MAX_RANGES ? null : ranges;
+  }
+
+  private static void skip(InputStream in, long n) throws IOException {
+    while (n > 0) {
+      long skipped = in.skip(n);
+      if (skipped <= 0) {
+        if (in.read() == -1) {
+          throw new EOFException();
+        }
+        skipped = 1;
+      }
+      n -= skipped;
+    }
+  }
+
+  private static void copy(InputStream in, long n, OutputStream out) throws IOException {
+    byte[] buffer = new byte[(int)Math.min(n, 8192)];
+    while (n > 0) {
+      int len = in.read(buffer, 0, (int)Math.min(n, buffer.length));
+      if (len == -1) {
+        throw new EOFException();
+      }
+      out.write(buffer, 0, len);
+      n -= len;
+    }
+  }
+
   public static String renderAssetURLById(String id) throws NullPointerException {
     Request request = Request.getCurrent();
     if (request != null) {
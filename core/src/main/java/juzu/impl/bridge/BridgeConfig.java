@@ -40,8 +40,18 @@ public class BridgeConfig {
   /** The default request encoding charset. */
   public static final String REQUEST_ENCODING = "juzu.request_encoding";
 
+  /** The executor provider of the request executor. */
+  public static final String EXECUTOR = "juzu.executor";
+
+  /** The number of threads of the executor pool. */
+  public static final String EXECUTOR_POOL_SIZE = "juzu.executor_pool_size";
+
+  /** The maximum number of tasks waiting in the executor pool queue. */
+  public static final String EXECUTOR_QUEUE_SIZE = "juzu.executor_queue_size";
+
   /** . */
-  public static final Set<String> NAMES = Collections.unmodifiableSet(Tools.set(INJECT, APP_NAME, REQUEST_ENCODING));
+  public static final Set<String> NAMES = Collections.unmodifiableSet(Tools.set(
+      INJECT, APP_NAME, REQUEST_ENCODING, EXECUTOR, EXECUTOR_POOL_SIZE, EXECUTOR_QUEUE_SIZE));
 
   /** . */
   public final Name name;
@@ -52,10 +62,22 @@ public class BridgeConfig {
   /** . */
   public final Charset requestEncoding;
 
+  /** The executor provider or null when the container executes the tasks. */
+  public final ExecutorProvider executorProvider;
+
+  /** . */
+  public final int executorPoolSize;
+
+  /** . */
+  public final int executorQueueSize;
+
   public BridgeConfig(Logger log, Map<String, String> config) throws Exception {
     this.name = getApplicationName(config);
     this.injectorProvider = getInjectImplementation(log, config);
     this.requestEncoding = getRequestEncoding(config);
+    this.executorProvider = getExecutorProvider(config);
+    this.executorPoolSize = getInt(config, EXECUTOR_POOL_SIZE, Runtime.getRuntime().availableProcessors());
+    this.executorQueueSize = getInt(config, EXECUTOR_QUEUE_SIZE, 100);
   }
 
   private Name getApplicationName(Map<String, String> config) {
@@ -106,4 +128,23 @@ public class BridgeConfig {
       return Tools.ISO_8859_1;
     }
   }
+
+  private ExecutorProvider getExecutorProvider(Map<String, String> config) throws Exception {
+    String executor = config.get(EXECUTOR);
+    if (executor != null) {
+      return ExecutorProvider.find(executor, Thread.currentThread().getContextClassLoader());
+    } else {
+      return null;
+    }
+  }
+
+  private int getInt(Map<String, String> config, String name, int defaultValue) {
+    String value = config.get(name);
+    if (value != null) {
+      value = Tools.interpolate(value, System.getProperties());
+      return Integer.parseInt(value.trim());
+    } else {
+      return defaultValue;
+    }
+  }
 }
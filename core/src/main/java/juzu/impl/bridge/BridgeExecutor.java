@@ -0,0 +1,146 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package juzu.impl.bridge;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The executor of an application bridge, it counts the tasks it executes, the counters can be published in the
+ * platform MBean server with the {@link #register(ObjectName)} method.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+public class BridgeExecutor implements Executor, Closeable, BridgeExecutorMBean {
+
+  /** . */
+  private final ExecutorService service;
+
+  /** . */
+  private final AtomicInteger queued;
+
+  /** . */
+  private final AtomicInteger active;
+
+  /** . */
+  private final AtomicLong completed;
+
+  /** . */
+  private final AtomicLong rejected;
+
+  /** The registered name or null. */
+  private ObjectName name;
+
+  public BridgeExecutor(ExecutorService service) throws NullPointerException {
+    if (service == null) {
+      throw new NullPointerException("No null executor service accepted");
+    }
+    this.service = service;
+    this.queued = new AtomicInteger();
+    this.active = new AtomicInteger();
+    this.completed = new AtomicLong();
+    this.rejected = new AtomicLong();
+  }
+
+  public void execute(final Runnable command) throws RejectedExecutionException {
+    queued.incrementAndGet();
+    try {
+      service.execute(new Runnable() {
+        public void run() {
+          queued.decrementAndGet();
+          active.incrementAndGet();
+          try {
+            command.run();
+          }
+          finally {
+            active.decrementAndGet();
+            completed.incrementAndGet();
+          }
+        }
+      });
+    }
+    catch (RejectedExecutionException e) {
+      queued.decrementAndGet();
+      rejected.incrementAndGet();
+      throw e;
+    }
+  }
+
+  /**
+   * @return the number of tasks waiting for execution
+   */
+  public int getQueueDepth() {
+    return queued.get();
+  }
+
+  /**
+   * @return the number of tasks being executed
+   */
+  public int getActiveCount() {
+    return active.get();
+  }
+
+  /**
+   * @return the number of executed tasks
+   */
+  public long getCompletedCount() {
+    return completed.get();
+  }
+
+  /**
+   * @return the number of rejected tasks
+   */
+  public long getRejectedCount() {
+    return rejected.get();
+  }
+
+  /**
+   * Register this executor in the platform MBean server, it is unregistered when the executor is closed.
+   *
+   * @param name the object name
+   * @throws JMException any JMX exception
+   */
+  public synchronized void register(ObjectName name) throws JMException {
+    unregister();
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+    this.name = name;
+  }
+
+  private synchronized void unregister() {
+    if (name != null) {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      try {
+        server.unregisterMBean(name);
+      }
+      catch (JMException ignore) {
+      }
+      name = null;
+    }
+  }
+
+  public void close() {
+    unregister();
+    service.shutdown();
+  }
+}
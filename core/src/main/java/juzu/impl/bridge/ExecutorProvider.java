@@ -0,0 +1,105 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package juzu.impl.bridge;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the executor service running the tasks submitted to the request executor of an application. When
+ * no provider is configured, the tasks are executed by the container.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+public abstract class ExecutorProvider {
+
+  /** The container provider value. */
+  public static final String CONTAINER = "container";
+
+  /** A bounded thread pool. */
+  public static final ExecutorProvider POOL = new ExecutorProvider() {
+    @Override
+    public ExecutorService create(BridgeConfig config) {
+      final String prefix = "juzu-" + config.name + "-";
+      final AtomicInteger count = new AtomicInteger();
+      return new ThreadPoolExecutor(
+          config.executorPoolSize,
+          config.executorPoolSize,
+          60, TimeUnit.SECONDS,
+          new ArrayBlockingQueue<Runnable>(config.executorQueueSize),
+          new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+              Thread thread = new Thread(r, prefix + count.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+    }
+  };
+
+  /** A virtual thread per task when the JVM provides them, otherwise a bounded thread pool. */
+  public static final ExecutorProvider VIRTUAL = new ExecutorProvider() {
+    @Override
+    public ExecutorService create(BridgeConfig config) {
+      try {
+        Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        return (ExecutorService)factory.invoke(null);
+      }
+      catch (NoSuchMethodException e) {
+        return POOL.create(config);
+      }
+      catch (Exception e) {
+        throw new UnsupportedOperationException("Could not create virtual thread executor", e);
+      }
+    }
+  };
+
+  /**
+   * Find an executor provider: <code>pool</code>, <code>virtual</code> or the name of a class extending this class.
+   *
+   * @param value the provider value
+   * @param loader the loader for loading a provider class
+   * @return the provider or null for the <code>container</code> value
+   * @throws Exception when the provider class cannot be instantiated
+   */
+  public static ExecutorProvider find(String value, ClassLoader loader) throws Exception {
+    value = value.trim();
+    if (CONTAINER.equalsIgnoreCase(value)) {
+      return null;
+    } else if ("pool".equalsIgnoreCase(value)) {
+      return POOL;
+    } else if ("virtual".equalsIgnoreCase(value)) {
+      return VIRTUAL;
+    } else {
+      return loader.loadClass(value).asSubclass(ExecutorProvider.class).newInstance();
+    }
+  }
+
+  /**
+   * Create the executor service of an application, the service is shutdown when the bridge is closed.
+   *
+   * @param config the bridge config
+   * @return the executor service
+   */
+  public abstract ExecutorService create(BridgeConfig config);
+
+}
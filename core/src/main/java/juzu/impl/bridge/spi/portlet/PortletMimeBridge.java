@@ -16,8 +16,11 @@
 
 package juzu.impl.bridge.spi.portlet;
 
+import juzu.PropertyMap;
 import juzu.PropertyType;
 import juzu.Response;
+import juzu.bridge.portlet.ExpirationCache;
+import juzu.bridge.portlet.JuzuPortlet;
 import juzu.impl.asset.Asset;
 import juzu.impl.bridge.Bridge;
 import juzu.impl.common.Formatting;
@@ -31,11 +34,14 @@ import org.w3c.dom.Comment;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 
+import javax.portlet.CacheControl;
 import javax.portlet.MimeResponse;
 import javax.portlet.PortletConfig;
 import javax.portlet.PortletException;
 import javax.portlet.PortletRequest;
+import javax.portlet.RenderRequest;
 import javax.portlet.RenderResponse;
+import javax.portlet.ResourceRequest;
 import javax.portlet.ResourceResponse;
 import java.io.IOException;
 import java.io.PrintWriter;
@@ -59,6 +65,64 @@ public abstract class PortletMimeBridge<Rq extends PortletRequest, Rs extends Mi
     return Collections.emptyMap();
   }
 
+  @Override
+  public <T> T getProperty(PropertyType<T> propertyType) {
+    if (JuzuPortlet.ETAG.equals(propertyType)) {
+      String etag;
+      if (req instanceof RenderRequest) {
+        etag = ((RenderRequest)req).getETag();
+      } else if (req instanceof ResourceRequest) {
+        etag = ((ResourceRequest)req).getETag();
+      } else {
+        etag = null;
+      }
+      return etag == null ? null : propertyType.cast(etag);
+    }
+    return super.getProperty(propertyType);
+  }
+
+  /**
+   * Configure the portlet cache control from the response properties or the {@link ExpirationCache} annotation
+   * of the target method.
+   *
+   * @param status the response
+   * @return true when the cached markup is still valid and should be used by the portal
+   */
+  private boolean cacheControl(Response.Status status) {
+    PropertyMap properties = status.getProperties();
+    Integer expiration = properties.getValue(JuzuPortlet.EXPIRATION_CACHE);
+    Boolean shared = properties.getValue(JuzuPortlet.SHARED_CACHE);
+    if (target != null && (expiration == null || shared == null)) {
+      ExpirationCache annotation = target.getExpirationCache();
+      if (annotation != null) {
+        if (expiration == null) {
+          expiration = annotation.value();
+        }
+        if (shared == null) {
+          shared = annotation.shared();
+        }
+      }
+    }
+    String etag = properties.getValue(JuzuPortlet.ETAG);
+
+    //
+    CacheControl cacheControl = resp.getCacheControl();
+    if (expiration != null) {
+      cacheControl.setExpirationTime(expiration);
+    }
+    if (shared != null) {
+      cacheControl.setPublicScope(shared);
+    }
+    if (etag != null) {
+      cacheControl.setETag(etag);
+      if (etag.equals(getProperty(JuzuPortlet.ETAG))) {
+        cacheControl.setUseCachedContent(true);
+        return true;
+      }
+    }
+    return false;
+  }
+
   @Override
   public void send() throws IOException, PortletException {
     if (response instanceof Response.Status) {
@@ -66,6 +130,11 @@ public abstract class PortletMimeBridge<Rq extends PortletRequest, Rs extends Mi
       //
       Response.Status status = (Response.Status)response;
 
+      // Validation hit : the portal reuses its markup and we don't need to stream the response
+      if (status.getCode() == 200 && cacheControl(status)) {
+        return;
+      }
+
       //
       final AssetService assetPlugin = (AssetService)bridge.getApplication().getPlugin("asset");
 
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package juzu.impl.bridge.spi.servlet;
+
+import javax.servlet.ServletContext;
+import java.net.MalformedURLException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded cache of the server resource probes of a servlet: it remembers whether a request path maps
+ * to a resource of the servlet context. The cache is cleared when it is full, probing again is cheap
+ * and it keeps the hits lock free.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+class ResourceProbes {
+
+  /** . */
+  private final int max;
+
+  /** Request path -> exists. */
+  private final ConcurrentHashMap<String, Boolean> probes;
+
+  ResourceProbes(int max) {
+    this.max = max;
+    this.probes = new ConcurrentHashMap<String, Boolean>();
+  }
+
+  /**
+   * Returns true when the path maps to a resource of the servlet context, the servlet context is only queried
+   * when the path is not cached.
+   *
+   * @param context the servlet context
+   * @param path the request path
+   * @return true when the resource exists
+   * @throws MalformedURLException when the path is not valid
+   */
+  boolean exists(ServletContext context, String path) throws MalformedURLException {
+    Boolean exists = probes.get(path);
+    if (exists == null) {
+      exists = context.getResource(path) != null;
+      if (probes.size() >= max) {
+        probes.clear();
+      }
+      probes.put(path, exists);
+    }
+    return exists;
+  }
+}
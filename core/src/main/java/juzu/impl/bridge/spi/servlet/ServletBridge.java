@@ -20,6 +20,7 @@ import juzu.impl.asset.AssetServer;
 import juzu.impl.bridge.Bridge;
 import juzu.impl.bridge.BridgeConfig;
 import juzu.impl.bridge.BridgeContext;
+import juzu.impl.bridge.BridgeExecutor;
 import juzu.impl.bridge.module.ApplicationBridge;
 import juzu.impl.bridge.module.ModuleContextImpl;
 import juzu.impl.bridge.provided.ProvidedBridge;
@@ -28,6 +29,7 @@ import juzu.impl.common.Completion;
 import juzu.impl.common.JUL;
 import juzu.impl.common.Tools;
 import juzu.impl.common.Logger;
+import juzu.impl.common.RunMode;
 import juzu.impl.common.SimpleMap;
 import juzu.impl.compiler.CompilationException;
 import juzu.impl.fs.spi.ReadFileSystem;
@@ -37,6 +39,8 @@ import juzu.impl.inject.spi.InjectorProvider;
 import juzu.impl.inject.spi.spring.SpringInjector;
 import juzu.impl.resource.ResourceResolver;
 
+import javax.management.JMException;
+import javax.management.ObjectName;
 import javax.servlet.RequestDispatcher;
 import javax.servlet.ServletConfig;
 import javax.servlet.ServletException;
@@ -56,6 +60,9 @@ public class ServletBridge extends HttpServlet {
   /** The resource bundle name. */
   public static final String BUNDLE_NAME = "juzu.resource_bundle";
 
+  /** The maximum number of cached server resource probes. */
+  private static final int MAX_PROBES = 1024;
+
   /** . */
   private String path;
 
@@ -80,10 +87,26 @@ public class ServletBridge extends HttpServlet {
   /** . */
   ServletApplicationContext applicationContext;
 
+  /** The executor of the request tasks or null when the container executes them. */
+  private BridgeExecutor executor;
+
+  /** True when the application is bound once for all and does not need to be refreshed. */
+  private volatile boolean bound;
+
+  /** The server resource probes, only used in prod mode. */
+  private final ResourceProbes probes = new ResourceProbes(MAX_PROBES);
+
   Bridge getBridge() {
     return bridge;
   }
 
+  /**
+   * @return the executor of the request tasks or null when the container executes them
+   */
+  public BridgeExecutor getExecutor() {
+    return executor;
+  }
+
   @Override
   public void init() throws ServletException {
 
@@ -135,6 +158,8 @@ public class ServletBridge extends HttpServlet {
             return inject;
           } else if (BridgeConfig.REQUEST_ENCODING.equals(key)) {
             return servletConfig.getServletContext().getInitParameter((String)key);
+          } else if (BridgeConfig.NAMES.contains(key)) {
+            return servletConfig.getInitParameter((String)key);
           } else {
             return null;
           }
@@ -200,6 +225,28 @@ public class ServletBridge extends HttpServlet {
     this.bundleName = servletConfig.getInitParameter(BUNDLE_NAME);
     this.servletLogger = servletLogger;
     this.bridgeContext = bridgeContext;
+    this.executor = config.executorProvider != null ? new BridgeExecutor(config.executorProvider.create(config)) : null;
+
+    // Publish the executor counters, the executor unregisters itself when it is closed
+    if (executor != null) {
+      try {
+        executor.register(new ObjectName("juzu:type=BridgeExecutor,context=" + ObjectName.quote(getServletContext().getContextPath()) + ",servlet=" + ObjectName.quote(getServletName())));
+      }
+      catch (JMException e) {
+        servletLogger.warning("Could not register the executor of application " + config.name, e);
+      }
+    }
+
+    // In prod mode nothing can change, so we bind the application once, a failure is reported by the first request
+    if (bridgeContext.getRunMode() == RunMode.PROD) {
+      try {
+        refresh();
+        bound = true;
+      }
+      catch (Exception e) {
+        servletLogger.warning("Could not bind application " + config.name + ", it will be bound on first request", e);
+      }
+    }
   }
 
   static ServletException wrap(Throwable e) {
@@ -217,7 +264,7 @@ public class ServletBridge extends HttpServlet {
     return config.getInitParameter("juzu.app_name");
   }
 
-  private void refresh() throws Exception {
+  void refresh() throws Exception {
     if (bridge == null) {
 
       //
@@ -298,9 +345,15 @@ public class ServletBridge extends HttpServlet {
     ServletWebBridge bridge = new ServletWebBridge(this, ctx);
 
     // Do we need to send a server resource ?
-    if (ctx.getRequestPath().length() > 1 && !ctx.getRequestPath().startsWith("/WEB-INF/")) {
-      URL url = getServletContext().getResource(ctx.getRequestPath());
-      if (url != null) {
+    String requestPath = ctx.getRequestPath();
+    if (requestPath.length() > 1 && !requestPath.startsWith("/WEB-INF/")) {
+      boolean exists;
+      if (ctx.getRunMode() == RunMode.PROD) {
+        exists = probes.exists(getServletContext(), requestPath);
+      } else {
+        exists = getServletContext().getResource(requestPath) != null;
+      }
+      if (exists) {
         RequestDispatcher dispatcher = getServletContext().getNamedDispatcher("default");
         dispatcher.include(bridge.getRequestContext().req, bridge.getResponse());
         return;
@@ -308,15 +361,18 @@ public class ServletBridge extends HttpServlet {
     }
 
     //
-    try {
-      refresh();
-    }
-    catch (CompilationException e) {
-      ctx.send(e);
-      return;
-    }
-    catch (Exception e) {
-      throw wrap(e);
+    if (!bound) {
+      try {
+        refresh();
+        bound = ctx.getRunMode() == RunMode.PROD;
+      }
+      catch (CompilationException e) {
+        ctx.send(e);
+        return;
+      }
+      catch (Exception e) {
+        throw wrap(e);
+      }
     }
 
     //
@@ -341,5 +397,15 @@ public class ServletBridge extends HttpServlet {
       Tools.safeClose(handler);
       this.handler = null;
     }
+    if (bridge != null) {
+      // Stops the application and releases its resources such as the monitoring
+      Tools.safeClose(bridge);
+      this.bridge = null;
+      this.bound = false;
+    }
+    if (executor != null) {
+      Tools.safeClose(executor);
+      this.executor = null;
+    }
   }
 }
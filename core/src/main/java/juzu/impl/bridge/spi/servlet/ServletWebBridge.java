@@ -17,6 +17,7 @@
 package juzu.impl.bridge.spi.servlet;
 
 import juzu.HttpMethod;
+import juzu.impl.bridge.BridgeExecutor;
 import juzu.impl.bridge.spi.web.WebBridge;
 import juzu.impl.common.JUL;
 import juzu.impl.common.Logger;
@@ -74,9 +75,10 @@ public class ServletWebBridge extends WebBridge implements HttpContext, ClientCo
   @Override
   public void execute(final Runnable runnable) {
     if (ctx.req.isAsyncSupported()) {
+      boolean started = ctx.req.isAsyncStarted();
       AsyncContext context = ctx.beginAsync();
       ServletRequestContext.log.trace("Scheduling runnable " + runnable);
-      context.start(new Runnable() {
+      Runnable task = new Runnable() {
         public void run() {
           ServletRequestContext.log.trace("Starting runnable " + runnable);
           try {
@@ -90,7 +92,22 @@ public class ServletWebBridge extends WebBridge implements HttpContext, ClientCo
             ServletRequestContext.log.trace("Failure of runnable " + runnable, e);
           }
         }
-      });
+      };
+      BridgeExecutor executor = servlet.getExecutor();
+      if (executor != null) {
+        try {
+          executor.execute(task);
+        }
+        catch (RejectedExecutionException e) {
+          // Complete the async mode we started as nothing will be sent
+          if (!started) {
+            ctx.endAsync();
+          }
+          throw e;
+        }
+      } else {
+        context.start(task);
+      }
     } else {
       throw new RejectedExecutionException("Async not enabled currently for this servlet");
     }
@@ -347,4 +347,15 @@ public abstract class WebRequestBridge implements RequestBridge, WindowContext {
   public void renderAssetURL(AssetLocation location, String uri, Appendable appendable) throws NullPointerException, UnsupportedOperationException, IOException {
     http.getRequestContext().renderAssetURL(location, uri, appendable);
   }
+
+  /**
+   * Render the base URL of the dispatches created by this bridge: the URL of a handler without parameters is
+   * this base URL followed by the handler route.
+   *
+   * @param appendable the appendable
+   * @throws IOException any io exception
+   */
+  public void renderRequestURL(Appendable appendable) throws IOException {
+    http.renderRequestURL(appendable);
+  }
 }
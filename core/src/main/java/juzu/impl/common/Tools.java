@@ -1228,13 +1228,8 @@ public class Tools {
    * @return the corresponding html escape or null if it does not exist
    */
   public static String getHtmlEscape(char c) {
-    int lookup = (c >> 8);
-    if (lookup < 256) {
-      String[] table = HTML_ESCAPES[lookup];
-      int pointer = c & 0xFF;
-      return table[pointer];
-    }
-    return null;
+    String[] table = HTML_ESCAPES[c >> 8];
+    return table != null ? table[c & 0xFF] : null;
   }
 
   static {
@@ -1512,15 +1507,21 @@ public class Tools {
     if (from > to) {
       throw new IllegalArgumentException("From bound cannot be greater than to bound");
     }
-    while (from < to) {
-      char c = src.charAt(from++);
-      String escape = getHtmlEscape(c);
+    // Append the runs of chars that don't need escaping at once
+    int start = from;
+    for (int i = from;i < to;i++) {
+      String escape = getHtmlEscape(src.charAt(i));
       if (escape != null) {
+        if (start < i) {
+          dst.append(src, start, i);
+        }
         dst.append(escape);
-      } else {
-        dst.append(c);
+        start = i + 1;
       }
     }
+    if (start < to) {
+      dst.append(src, start, to);
+    }
   }
 
   /** . */
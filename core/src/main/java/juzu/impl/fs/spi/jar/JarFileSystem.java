@@ -25,12 +25,16 @@ import juzu.impl.fs.spi.PathType;
 import juzu.impl.fs.spi.ReadFileSystem;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.Charset;
 import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.TreeMap;
 import java.util.jar.JarFile;
@@ -40,75 +44,166 @@ import java.util.zip.ZipInputStream;
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 public class JarFileSystem extends ReadFileSystem<String> {
 
+  /** The maximum number of indexes retained. */
+  private static final int MAX_INDEXES = 64;
+
+  /** The indexes of the local jar files keyed by canonical file. */
+  private static final Map<File, Index> indexes = new LinkedHashMap<File, Index>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<File, Index> eldest) {
+      return size() > MAX_INDEXES;
+    }
+  };
+
+  /**
+   * The index of a local jar file built from its central directory, it is shared by the file systems of the same
+   * jar file as long as the jar file is not modified. The index does not retain the jar file, it is only opened
+   * for building the index and for reading an entry.
+   */
+  private static class Index {
+
+    /** . */
+    final TreeMap<String, ZipEntry> entries;
+
+    /** . */
+    final long lastModified;
+
+    /** . */
+    final long length;
+
+    Index(File file) throws IOException {
+      this.lastModified = file.lastModified();
+      this.length = file.length();
+      JarFile jar = new JarFile(file);
+      try {
+        this.entries = entries(jar.entries());
+      }
+      finally {
+        close(jar);
+      }
+    }
+  }
+
+  private static Index getIndex(File file) throws IOException {
+    synchronized (indexes) {
+      Index index = indexes.get(file);
+      if (index == null || index.lastModified != file.lastModified() || index.length != file.length()) {
+        index = new Index(file);
+        indexes.put(file, index);
+      }
+      return index;
+    }
+  }
+
+  /**
+   * Returns the local file of a <code>file:</code> URL or of a <code>jar:file:</code> URL denoting the root of the
+   * jar, or null when the URL does not resolve to a local jar file, for instance a jar nested in a war.
+   */
+  private static File getLocalFile(URL url) throws IOException {
+    if (url.getProtocol().equals("jar")) {
+      String path = url.getPath();
+      int pos = path.indexOf("!/");
+      if (pos == -1) {
+        url = new URL(path);
+      } else if (pos + 2 == path.length()) {
+        url = new URL(path.substring(0, pos));
+      } else {
+        return null;
+      }
+    }
+    if (url.getProtocol().equals("file")) {
+      try {
+        return new File(url.toURI()).getCanonicalFile();
+      }
+      catch (URISyntaxException e) {
+        throw new IOException(e);
+      }
+    } else {
+      return null;
+    }
+  }
+
+  private static void close(JarFile jar) {
+    try {
+      jar.close();
+    }
+    catch (IOException ignore) {
+    }
+  }
+
   /** . */
   private final URL baseURL;
 
   /** . */
   private final TreeMap<String, ZipEntry> entries;
 
+  /** The jar file provided to the file system. */
+  private final JarFile jar;
+
+  /** The local jar file opened for reading an entry. */
+  private final File file;
+
+  /** . */
+  private final long lastModified;
+
   public JarFileSystem(JarFile f) throws IOException {
-    TreeMap<String, ZipEntry> entries = new TreeMap<String, ZipEntry>();
-    for (Enumeration<? extends ZipEntry> en = f.entries();en.hasMoreElements();) {
-      ZipEntry entry = en.nextElement();
-      String name = entry.getName();
-      if (name.length() > 0 && name.charAt(name.length() - 1) != '/') {
-        entries.put(name, entry);
-        String current = name;
-        while (true) {
-          int index = current.lastIndexOf('/');
-          if (index == -1) {
-            break;
-          } else {
-            current = name.substring(0, index);
-            if (entries.containsKey(current)) {
-              break;
-            } else {
-              entries.put(current, null);
-            }
-          }
-        }
-      }
-    }
-    this.baseURL = new File(f.getName()).toURI().toURL();
-    this.entries = entries;
+    File file = new File(f.getName());
+    this.baseURL = file.toURI().toURL();
+    this.entries = entries(f.entries());
+    this.jar = f;
+    this.file = null;
+    this.lastModified = file.lastModified();
   }
 
   public JarFileSystem(URL baseURL) throws IOException {
-    final ZipInputStream in = new ZipInputStream(baseURL.openStream());
-    try {
+    File file = getLocalFile(baseURL);
+    if (file != null) {
+      Index index = getIndex(file);
+      this.baseURL = file.toURI().toURL();
+      this.entries = index.entries;
+      this.jar = null;
+      this.file = file;
+      this.lastModified = index.lastModified;
+    } else {
       this.baseURL = baseURL;
-      this.entries = entries(new Enumeration<ZipEntry>() {
-        ZipEntry next;
-        public boolean hasMoreElements() {
-          try {
-            if (next == null) {
-              next = in.getNextEntry();
+      final ZipInputStream in = new ZipInputStream(baseURL.openStream());
+      try {
+        this.entries = entries(new Enumeration<ZipEntry>() {
+          ZipEntry next;
+          public boolean hasMoreElements() {
+            try {
+              if (next == null) {
+                next = in.getNextEntry();
+              }
+              return next != null;
+            }
+            catch (IOException e) {
+              throw new UndeclaredIOException(e);
             }
-            return next != null;
-          }
-          catch (IOException e) {
-            throw new UndeclaredIOException(e);
           }
-        }
-        public ZipEntry nextElement() {
-          if (!hasMoreElements()) {
-            throw new NoSuchElementException();
+          public ZipEntry nextElement() {
+            if (!hasMoreElements()) {
+              throw new NoSuchElementException();
+            }
+            ZipEntry tmp = next;
+            next = null;
+            return tmp;
           }
-          ZipEntry tmp = next;
-          next = null;
-          return tmp;
-        }
-      });
-    }
-    catch (UndeclaredIOException e) {
-      throw e.getCause();
-    }
-    finally {
-      Tools.safeClose(in);
+        });
+        this.jar = null;
+        this.file = null;
+        this.lastModified = 0;
+      }
+      catch (UndeclaredIOException e) {
+        throw e.getCause();
+      }
+      finally {
+        Tools.safeClose(in);
+      }
     }
   }
 
-  private TreeMap<String, ZipEntry> entries(Enumeration<ZipEntry> e) {
+  private static TreeMap<String, ZipEntry> entries(Enumeration<? extends ZipEntry> e) {
     TreeMap<String, ZipEntry> entries = new TreeMap<String, ZipEntry>();
     while (e.hasMoreElements()) {
       ZipEntry entry = e.nextElement();
@@ -256,8 +351,27 @@ public class JarFileSystem extends ReadFileSystem<String> {
   }
 
   @Override
-  public Timestamped<Resource> getResource(String file) throws IOException {
-    URL url = getURL(file);
+  public Timestamped<Resource> getResource(String path) throws IOException {
+    if (jar != null || file != null) {
+      ZipEntry entry = entries.get(path);
+      if (entry == null) {
+        throw new FileNotFoundException("JAR entry " + path + " not found in " + baseURL);
+      }
+      byte[] bytes;
+      if (jar != null) {
+        bytes = Tools.bytes(jar.getInputStream(entry));
+      } else {
+        JarFile jar = new JarFile(file);
+        try {
+          bytes = Tools.bytes(jar.getInputStream(entry));
+        }
+        finally {
+          close(jar);
+        }
+      }
+      return new Timestamped<Resource>(lastModified, new Resource(bytes, Charset.defaultCharset()));
+    }
+    URL url = getURL(path);
     URLConnection conn = url.openConnection();
     long lastModified = conn.getLastModified();
     byte[] bytes = Tools.bytes(conn.getInputStream());
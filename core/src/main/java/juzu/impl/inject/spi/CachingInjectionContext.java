@@ -0,0 +1,190 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.impl.inject.spi;
+
+import juzu.impl.common.Tools;
+import juzu.impl.inject.ScopeController;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An injection context decorator that caches bean resolution and singleton instances. The underlying container
+ * is immutable once created, so the cache lives as long as the decorated context, i.e until the application is
+ * restarted.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+public class CachingInjectionContext<B, C> extends InjectionContext<B, C> {
+
+  /** Marker for negative resolutions. */
+  private static final Object NULL = new Object();
+
+  /** . */
+  private final InjectionContext<B, C> delegate;
+
+  /** . */
+  private final ConcurrentHashMap<Class<?>, Object> typeCache;
+
+  /** . */
+  private final ConcurrentHashMap<String, Object> nameCache;
+
+  /** . */
+  private final ConcurrentHashMap<Class<?>, List<B>> typesCache;
+
+  /** . */
+  private final ConcurrentHashMap<B, Singleton> singletons;
+
+  public CachingInjectionContext(InjectionContext<B, C> delegate) {
+    if (delegate == null) {
+      throw new NullPointerException("No null delegate accepted");
+    }
+    this.delegate = delegate;
+    this.typeCache = new ConcurrentHashMap<Class<?>, Object>();
+    this.nameCache = new ConcurrentHashMap<String, Object>();
+    this.typesCache = new ConcurrentHashMap<Class<?>, List<B>>();
+    this.singletons = new ConcurrentHashMap<B, Singleton>();
+  }
+
+  public InjectionContext<B, C> getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public ScopeController getScopeController() {
+    return delegate.getScopeController();
+  }
+
+  @Override
+  public InjectorProvider getProvider() {
+    return delegate.getProvider();
+  }
+
+  @Override
+  public ClassLoader getClassLoader() {
+    return delegate.getClassLoader();
+  }
+
+  @Override
+  public B resolveBean(Class<?> type) {
+    Object bean = typeCache.get(type);
+    if (bean == null) {
+      bean = delegate.resolveBean(type);
+      if (bean == null) {
+        bean = NULL;
+      }
+      typeCache.put(type, bean);
+    }
+    return bean == NULL ? null : (B)bean;
+  }
+
+  @Override
+  public B resolveBean(String name) {
+    Object bean = nameCache.get(name);
+    if (bean == null) {
+      bean = delegate.resolveBean(name);
+      if (bean == null) {
+        bean = NULL;
+      }
+      nameCache.put(name, bean);
+    }
+    return bean == NULL ? null : (B)bean;
+  }
+
+  @Override
+  public Iterable<B> resolveBeans(Class<?> type) {
+    List<B> beans = typesCache.get(type);
+    if (beans == null) {
+      beans = Collections.unmodifiableList(Tools.list(delegate.resolveBeans(type)));
+      typesCache.put(type, beans);
+    }
+    return beans;
+  }
+
+  @Override
+  public boolean isSingleton(B bean) {
+    return singletons.containsKey(bean) || delegate.isSingleton(bean);
+  }
+
+  @Override
+  public C createContext(B bean) throws InvocationTargetException {
+    Singleton singleton = singletons.get(bean);
+    if (singleton == null) {
+      if (delegate.isSingleton(bean)) {
+        C context = delegate.createContext(bean);
+        Singleton existing = singletons.putIfAbsent(bean, singleton = new Singleton(context));
+        if (existing != null) {
+          delegate.releaseContext(bean, context);
+          singleton = existing;
+        }
+      } else {
+        return delegate.createContext(bean);
+      }
+    }
+    return singleton.context;
+  }
+
+  @Override
+  public void releaseContext(B bean, C context) {
+    Singleton singleton = singletons.get(bean);
+    if (singleton == null || singleton.context != context) {
+      delegate.releaseContext(bean, context);
+    }
+  }
+
+  @Override
+  public Object getInstance(B bean, C context) throws InvocationTargetException {
+    Singleton singleton = singletons.get(bean);
+    if (singleton != null && singleton.context == context) {
+      Object instance = singleton.instance;
+      if (instance == null) {
+        singleton.instance = instance = delegate.getInstance(bean, context);
+      }
+      return instance;
+    } else {
+      return delegate.getInstance(bean, context);
+    }
+  }
+
+  @Override
+  public void close() {
+    for (Map.Entry<B, Singleton> entry : singletons.entrySet()) {
+      delegate.releaseContext(entry.getKey(), entry.getValue().context);
+    }
+    singletons.clear();
+    typeCache.clear();
+    nameCache.clear();
+    typesCache.clear();
+    delegate.close();
+  }
+
+  private class Singleton {
+
+    /** . */
+    final C context;
+
+    /** . */
+    volatile Object instance;
+
+    private Singleton(C context) {
+      this.context = context;
+    }
+  }
+}
@@ -43,6 +43,14 @@ public abstract class InjectionContext<B, C> implements Closeable {
 
   public abstract Iterable<B> resolveBeans(Class<?> type);
 
+  /**
+   * Returns true when the specified bean has a single instance for the lifetime of this context.
+   *
+   * @param bean the bean
+   * @return true if the bean is a singleton
+   */
+  public abstract boolean isSingleton(B bean);
+
   /**
    * Create a bean context for the specified bean.
    *
@@ -21,14 +21,15 @@ import juzu.impl.inject.ScopeController;
 import juzu.impl.plugin.controller.AmbiguousResolutionException;
 import juzu.impl.inject.spi.InjectionContext;
 
+import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.CreationException;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Singleton;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.Set;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
@@ -77,19 +78,15 @@ public abstract class CDIContext extends InjectionContext<Bean<?>, CreationalCon
   }
 
   public Iterable<Bean<?>> resolveBeans(Class<?> type) {
-    List<Bean<?>> resolved = Collections.emptyList();
-    for (Bean bean : beans) {
-      if (type.isAssignableFrom(bean.getBeanClass())) {
-        if (resolved.isEmpty()) {
-          resolved = new ArrayList<Bean<?>>();
-        }
-        resolved.add(bean);
-      }
-    }
     BeanManager manager = getBeanManager();
     return manager.getBeans(type);
   }
 
+  public boolean isSingleton(Bean<?> bean) {
+    Class<? extends Annotation> scope = bean.getScope();
+    return scope == Singleton.class || scope == ApplicationScoped.class;
+  }
+
   public Bean<?> resolveBean(String name) {
     BeanManager manager = getBeanManager();
     Set<Bean<?>> beans = manager.getBeans(name);
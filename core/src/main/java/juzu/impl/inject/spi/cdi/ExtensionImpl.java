@@ -19,6 +19,7 @@ package juzu.impl.inject.spi.cdi;
 import juzu.Scope;
 import juzu.impl.plugin.application.Application;
 import juzu.impl.common.JSON;
+import juzu.impl.inject.spi.CachingInjectionContext;
 import juzu.impl.inject.spi.InjectionContext;
 import juzu.impl.common.Tools;
 import juzu.impl.inject.spi.cdi.provided.ProvidedCDIInjector;
@@ -105,7 +106,11 @@ public class ExtensionImpl implements Extension {
         // At this point the application is not really started
         // we must go through the other CDI phases for effectively registering
         // the beans in the container
-        this.context = (CDIContext)application.getInjectionContext();
+        InjectionContext<?, ?> injectionContext = application.getInjectionContext();
+        if (injectionContext instanceof CachingInjectionContext<?, ?>) {
+          injectionContext = ((CachingInjectionContext<?, ?>)injectionContext).getDelegate();
+        }
+        this.context = (CDIContext)injectionContext;
       }
       catch (Exception e) {
         throw new UnsupportedOperationException(e);
@@ -26,4 +26,20 @@ class GuiceBean {
   public GuiceBean(Binding<?> binding) {
     this.binding = binding;
   }
+
+  @Override
+  public int hashCode() {
+    return binding.getKey().hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    } else if (obj instanceof GuiceBean) {
+      GuiceBean that = (GuiceBean)obj;
+      return binding.getKey().equals(that.binding.getKey());
+    }
+    return false;
+  }
 }
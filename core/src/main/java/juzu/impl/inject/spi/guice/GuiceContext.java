@@ -22,6 +22,7 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.ProvisionException;
+import com.google.inject.Scopes;
 import com.google.inject.TypeLiteral;
 import com.google.inject.binder.LinkedBindingBuilder;
 import com.google.inject.binder.ScopedBindingBuilder;
@@ -208,6 +209,10 @@ public class GuiceContext extends InjectionContext<GuiceBean, Object> {
     return beans;
   }
 
+  public boolean isSingleton(GuiceBean bean) {
+    return Scopes.isSingleton(bean.binding);
+  }
+
   public GuiceBean resolveBean(String name) {
     Key<?> key = nameMap.get(name);
     GuiceBean bean = null;
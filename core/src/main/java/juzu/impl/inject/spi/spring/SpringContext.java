@@ -108,6 +108,10 @@ public class SpringContext extends InjectionContext<String, Object> {
     return factory.getBeansOfType(type).keySet();
   }
 
+  public boolean isSingleton(String bean) {
+    return factory.isSingleton(bean);
+  }
+
   public Object createContext(String bean) throws InvocationTargetException {
     try {
       return factory.getBean(bean);
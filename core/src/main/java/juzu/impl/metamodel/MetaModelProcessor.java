@@ -21,7 +21,6 @@ import juzu.impl.compiler.BaseProcessor;
 import juzu.impl.compiler.MessageCode;
 import juzu.impl.compiler.ProcessingContext;
 import juzu.impl.common.Logger;
-import juzu.impl.common.Tools;
 
 import javax.annotation.Generated;
 import javax.annotation.processing.Completion;
@@ -32,9 +31,8 @@ import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
-import java.io.InputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -64,23 +62,30 @@ public abstract class MetaModelProcessor<P extends MetaModelPlugin<M, P>, M exte
 
     // Try to get state or create new one
     if (state == null) {
-      InputStream in = null;
-      try {
-        FileObject file = getContext().getResource(StandardLocation.SOURCE_OUTPUT, "juzu", "metamodel.ser");
-        in = file.openInputStream();
-        ObjectInputStream ois = new ObjectInputStream(in);
-        state = (MetaModelState<P, M>)ois.readObject();
-        log.info("Loaded model from " + file.toUri());
+      FileObject file = getContext().getResource(StandardLocation.SOURCE_OUTPUT, "juzu", "metamodel.ser");
+      if (file != null) {
+        try {
+          ArrayList<String> pluginNames = new ArrayList<String>();
+          for (P plugin : context.loadServices(getPluginType())) {
+            pluginNames.add(plugin.getName());
+          }
+          long time = System.currentTimeMillis();
+          state = (MetaModelState<P, M>)MetaModelState.read(file.openInputStream(), pluginNames);
+          log.info("Loaded model from " + file.toUri() + " in " + (System.currentTimeMillis() - time) + "ms");
+        }
+        catch (StreamCorruptedException e) {
+          log.info("Discarded model from " + file.toUri() + ": " + e.getMessage());
+        }
+        catch (Exception e) {
+          log.info("Discarded model from " + file.toUri() + ": " + e, e);
+        }
       }
-      catch (Exception e) {
+      if (state == null) {
         log.info("Created new meta model");
         MetaModelState<P, M> metaModel = new MetaModelState<P, M>(getPluginType(), createMetaModel());
         metaModel.init(getContext());
         state = metaModel;
       }
-      finally {
-        Tools.safeClose(in);
-      }
     }
 
     //
@@ -109,20 +114,17 @@ public abstract class MetaModelProcessor<P extends MetaModelPlugin<M, P>, M exte
         state.metaModel.prePassivate();
 
         // Passivate model
-        ObjectOutputStream out = null;
         try {
           FileObject file = getContext().createResource(StandardLocation.SOURCE_OUTPUT, "juzu", "metamodel.ser");
-          out = new ObjectOutputStream(file.openOutputStream());
-          out.writeObject(state);
+          long time = System.currentTimeMillis();
+          state.write(file.openOutputStream());
+          log.info("Passivated model to " + file.toUri() + " in " + (System.currentTimeMillis() - time) + "ms");
           state = null;
         }
         catch (Exception e) {
           e.printStackTrace();
           log.info("Could not passivate model ", e);
         }
-        finally {
-          Tools.safeClose(out);
-        }
       }
       else {
         log.info("Starting APT round #" + index);
@@ -16,13 +16,42 @@
 
 package juzu.impl.metamodel;
 
+import juzu.impl.common.Tools;
 import juzu.impl.compiler.ProcessingContext;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 public class MetaModelState<P extends MetaModelPlugin<M, P>, M extends MetaModel<P, M>> implements Serializable {
 
+  /** The magic number starting a persisted state. */
+  private static final int MAGIC = 0x4A757A75;
+
+  /**
+   * The version of the persisted state format, it must be increased when the format or the serialized form of
+   * the meta model changes in an incompatible way.
+   */
+  public static final int VERSION = 3;
+
   /** . */
   final MetaModelContext<P, M> context;
 
@@ -38,4 +67,103 @@ public class MetaModelState<P extends MetaModelPlugin<M, P>, M extends MetaModel
     context.init(env);
     context.add(metaModel);
   }
+
+  /**
+   * Returns the names of the plugins of this state.
+   *
+   * @return the plugin names
+   */
+  public List<String> getPluginNames() {
+    ArrayList<String> names = new ArrayList<String>();
+    for (P plugin : context.getPlugins()) {
+      names.add(plugin.getName());
+    }
+    return names;
+  }
+
+  /**
+   * Write the state to the output stream, the stream is closed when this method returns. The state is preceded by
+   * an uncompressed header containing the format version and the plugin names, the state itself is deflated.
+   *
+   * @param out the output stream
+   * @throws IOException any io exception
+   */
+  public void write(OutputStream out) throws IOException {
+    try {
+      DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 8192));
+      data.writeInt(MAGIC);
+      data.writeInt(VERSION);
+      List<String> pluginNames = getPluginNames();
+      data.writeInt(pluginNames.size());
+      for (String pluginName : pluginNames) {
+        data.writeUTF(pluginName);
+      }
+      Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+      try {
+        DeflaterOutputStream deflated = new DeflaterOutputStream(data, deflater, 8192);
+        ObjectOutputStream oos = new ObjectOutputStream(deflated);
+        oos.writeObject(this);
+        oos.flush();
+        deflated.finish();
+        data.flush();
+      }
+      finally {
+        deflater.end();
+      }
+    }
+    finally {
+      Tools.safeClose(out);
+    }
+  }
+
+  public void write(File f) throws IOException {
+    write(new FileOutputStream(f));
+  }
+
+  /**
+   * Read a state from the input stream, the stream is closed when this method returns. When the persisted state
+   * cannot be used, a {@link StreamCorruptedException} describing why it is discarded is thrown.
+   *
+   * @param in the input stream
+   * @param pluginNames the expected plugin names or null to accept any plugins
+   * @return the state
+   * @throws StreamCorruptedException when the state is not compatible
+   * @throws IOException any io exception
+   * @throws ClassNotFoundException when a class of the state cannot be loaded
+   */
+  public static MetaModelState<?, ?> read(InputStream in, List<String> pluginNames) throws StreamCorruptedException, IOException, ClassNotFoundException {
+    try {
+      DataInputStream data = new DataInputStream(new BufferedInputStream(in, 8192));
+      if (data.readInt() != MAGIC) {
+        throw new StreamCorruptedException("not a meta model state");
+      }
+      int version = data.readInt();
+      if (version != VERSION) {
+        throw new StreamCorruptedException("format version " + version + " does not match the current version " + VERSION);
+      }
+      int size = data.readInt();
+      ArrayList<String> persistedNames = new ArrayList<String>(size);
+      for (int i = 0;i < size;i++) {
+        persistedNames.add(data.readUTF());
+      }
+      if (pluginNames != null && !pluginNames.equals(persistedNames)) {
+        throw new StreamCorruptedException("plugins " + persistedNames + " do not match the current plugins " + pluginNames);
+      }
+      Inflater inflater = new Inflater();
+      try {
+        ObjectInputStream ois = new ObjectInputStream(new InflaterInputStream(data, inflater, 8192));
+        return (MetaModelState<?, ?>)ois.readObject();
+      }
+      finally {
+        inflater.end();
+      }
+    }
+    finally {
+      Tools.safeClose(in);
+    }
+  }
+
+  public static MetaModelState<?, ?> read(File f) throws IOException, ClassNotFoundException {
+    return read(new FileInputStream(f), null);
+  }
 }
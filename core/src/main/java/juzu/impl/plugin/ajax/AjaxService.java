@@ -19,6 +19,8 @@ package juzu.impl.plugin.ajax;
 import juzu.PropertyType;
 import juzu.Response;
 import juzu.asset.AssetLocation;
+import juzu.impl.bridge.spi.RequestBridge;
+import juzu.impl.bridge.spi.web.WebRequestBridge;
 import juzu.impl.plugin.ServiceContext;
 import juzu.impl.plugin.ServiceDescriptor;
 import juzu.impl.asset.AssetManager;
@@ -36,15 +38,25 @@ import juzu.request.Phase;
 
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
+import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 public class AjaxService extends ApplicationService implements RequestFilter<Stage.Unmarshalling> {
 
-  /** . */
-  Map<String, ControllerHandler> table;
+  /** The maximum number of base URLs a table keeps the rendered markup for. */
+  private static final int MAX_MARKUPS = 16;
+
+  /** The table of the pages of a controller that does not declare local handlers. */
+  Table global;
+
+  /** The tables of the pages of the controllers declaring local handlers. */
+  Map<Class<?>, Table> tables;
 
   @Inject
   ControllerService controllerPlugin;
@@ -83,16 +95,45 @@ public class AjaxService extends ApplicationService implements RequestFilter<Sta
         "jquery").deploy();
 
     //
-    Map<String, ControllerHandler> table = new HashMap<String, ControllerHandler>();
-    for (ControllerHandler cm : controllerPlugin.getDescriptor().getHandlers()) {
+    List<ControllerHandler<?>> globals = new ArrayList<ControllerHandler<?>>();
+    Map<Class<?>, List<ControllerHandler<?>>> locals = new HashMap<Class<?>, List<ControllerHandler<?>>>();
+    for (ControllerHandler<?> cm : controllerPlugin.getDescriptor().getHandlers()) {
       Ajax ajax = cm.getMethod().getAnnotation(Ajax.class);
       if (ajax != null) {
-        table.put(cm.getName(), cm);
+        if (ajax.global()) {
+          globals.add(cm);
+        } else {
+          List<ControllerHandler<?>> list = locals.get(cm.getType());
+          if (list == null) {
+            locals.put(cm.getType(), list = new ArrayList<ControllerHandler<?>>());
+          }
+          list.add(cm);
+        }
       }
     }
 
     //
-    this.table = table;
+    Map<Class<?>, Table> tables = new HashMap<Class<?>, Table>();
+    for (Map.Entry<Class<?>, List<ControllerHandler<?>>> entry : locals.entrySet()) {
+      List<ControllerHandler<?>> handlers = new ArrayList<ControllerHandler<?>>(globals);
+      handlers.addAll(entry.getValue());
+      tables.put(entry.getKey(), new Table(handlers));
+    }
+
+    //
+    this.global = new Table(globals);
+    this.tables = tables;
+  }
+
+  /**
+   * Returns the table of the handlers declared by the pages rendered by the specified controller.
+   *
+   * @param type the controller type
+   * @return the table
+   */
+  Table getTable(Class<?> type) {
+    Table table = tables.get(type);
+    return table != null ? table : global;
   }
 
   @Override
@@ -118,20 +159,7 @@ public class AjaxService extends ApplicationService implements RequestFilter<Sta
                 if (chunk instanceof Chunk.Data && !done) {
                   done = true;
                   stream.provide(new Chunk.Property<String>("juzu.ajax", PropertyType.ASSET));
-                  // FOR NOW WE DO WITH THE METHOD NAME
-                  // BUT THAT SHOULD BE REVISED TO USE THE ID INSTEAD
-                  StringBuilder sb = new StringBuilder();
-                  sb.append("<div class=\"jz\">\n");
-                  for (Map.Entry<String, ControllerHandler> entry : table.entrySet()) {
-                    String baseURL = request.createDispatch(entry.getValue()).toString();
-                    sb.append("<div data-method-id=\"");
-                    sb.append(entry.getValue().getId());
-                    sb.append("\" data-url=\"");
-                    sb.append(baseURL);
-                    sb.append("\"/>");
-                    sb.append("</div>");
-                  }
-                  stream.provide(Chunk.create(sb));
+                  stream.provide(Chunk.create(getTable(request.getHandler().getType()).render(request)));
                 }
                 stream.provide(chunk);
               }
@@ -150,4 +178,60 @@ public class AjaxService extends ApplicationService implements RequestFilter<Sta
     //
     return result;
   }
+
+  /**
+   * The handlers declared by a page along with their rendered markup. The URL of a handler rendered by the web
+   * bridges only depends on the base URL of the request, so the markup is rendered once per base URL.
+   */
+  static class Table {
+
+    /** . */
+    final List<ControllerHandler<?>> handlers;
+
+    /** . */
+    private final MarkupCache markups;
+
+    Table(List<ControllerHandler<?>> handlers) {
+      this.handlers = Collections.unmodifiableList(handlers);
+      this.markups = new MarkupCache(MAX_MARKUPS);
+    }
+
+    String render(Request request) {
+      RequestBridge bridge = request.getBridge();
+      if (bridge instanceof WebRequestBridge) {
+        StringBuilder base = new StringBuilder();
+        try {
+          ((WebRequestBridge)bridge).renderRequestURL(base);
+        }
+        catch (IOException e) {
+          throw new AssertionError(e);
+        }
+        String key = base.toString();
+        String markup = markups.get(key);
+        if (markup == null) {
+          markups.put(key, markup = doRender(request));
+        }
+        return markup;
+      } else {
+        return doRender(request);
+      }
+    }
+
+    private String doRender(Request request) {
+      // FOR NOW WE DO WITH THE METHOD NAME
+      // BUT THAT SHOULD BE REVISED TO USE THE ID INSTEAD
+      StringBuilder sb = new StringBuilder();
+      sb.append("<div class=\"jz\">\n");
+      for (ControllerHandler<?> handler : handlers) {
+        String baseURL = request.createDispatch(handler).toString();
+        sb.append("<div data-method-id=\"");
+        sb.append(handler.getId());
+        sb.append("\" data-url=\"");
+        sb.append(baseURL);
+        sb.append("\"/>");
+        sb.append("</div>");
+      }
+      return sb.toString();
+    }
+  }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.impl.plugin.ajax;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded LRU cache of the markup of an ajax table, keyed by the base URL of the request.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+class MarkupCache {
+
+  /** Base URL -> markup. */
+  private final LinkedHashMap<String, String> markups;
+
+  MarkupCache(final int max) {
+    this.markups = new LinkedHashMap<String, String>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+        return size() > max;
+      }
+    };
+  }
+
+  /**
+   * Returns the markup rendered for the base URL.
+   *
+   * @param baseURL the base URL
+   * @return the markup or null when it is not cached
+   */
+  String get(String baseURL) {
+    synchronized (markups) {
+      return markups.get(baseURL);
+    }
+  }
+
+  /**
+   * Cache the markup rendered for the base URL, the least recently used markup is evicted when the cache is full.
+   *
+   * @param baseURL the base URL
+   * @param markup the markup
+   */
+  void put(String baseURL, String markup) {
+    synchronized (markups) {
+      markups.put(baseURL, markup);
+    }
+  }
+}
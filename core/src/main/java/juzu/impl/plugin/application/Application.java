@@ -21,6 +21,7 @@ import juzu.Handler;
 import juzu.impl.common.JSON;
 import juzu.impl.common.Tools;
 import juzu.impl.inject.BeanDescriptor;
+import juzu.impl.inject.spi.CachingInjectionContext;
 import juzu.impl.inject.spi.Injector;
 import juzu.impl.plugin.Service;
 import juzu.impl.plugin.ServiceContext;
@@ -200,7 +201,7 @@ public class Application implements ResourceResolver {
 
     //
     try {
-      this.injectionContext = injector.create(filter);
+      this.injectionContext = cache(injector.create(filter));
       this.plugins = plugins;
     }
     catch (Exception e) {
@@ -208,6 +209,10 @@ public class Application implements ResourceResolver {
     }
   }
 
+  private static <B, C> CachingInjectionContext<B, C> cache(InjectionContext<B, C> context) {
+    return new CachingInjectionContext<B, C>(context);
+  }
+
   public String getName() {
     return descriptor.getName();
   }
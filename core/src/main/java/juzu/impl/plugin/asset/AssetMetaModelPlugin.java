@@ -45,9 +45,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 public class AssetMetaModelPlugin extends ApplicationMetaModelPlugin {
@@ -185,25 +191,15 @@ public class AssetMetaModelPlugin extends ApplicationMetaModelPlugin {
       }
       bilta.putAll(assetMetaMode.getResources());
 
-      // Process all resources
+      // Find the resources to process
+      LinkedHashMap<String, URLConnection> stale = new LinkedHashMap<String, URLConnection>();
       for (Map.Entry<String, URL> entry : bilta.entrySet()) {
-        InputStream in = null;
-        OutputStream out = null;
         try {
           URL src = entry.getValue();
           URLConnection conn = src.openConnection();
           FileObject dst = context.getResource(StandardLocation.CLASS_OUTPUT, qn, entry.getKey());
           if (dst == null || dst.getLastModified() < conn.getLastModified()) {
-            dst = context.createResource(StandardLocation.CLASS_OUTPUT, qn, entry.getKey(), context.get(metaModel.getHandle()));
-            context.info("Copying asset from source path " + src + " to class output " + dst.toUri());
-            Asset r = bilto.get(entry.getValue());
-            if (r != null) {
-              in = r.open(entry.getKey(), conn);
-            } else {
-              in = conn.getInputStream();
-            }
-            out = dst.openOutputStream();
-            Tools.copy(in, out);
+            stale.put(entry.getKey(), conn);
           } else {
             context.info("Found up to date related asset in class output for " + src);
           }
@@ -211,9 +207,86 @@ public class AssetMetaModelPlugin extends ApplicationMetaModelPlugin {
         catch (IOException e) {
           throw CANNOT_PROCESS_ASSET.failure(entry.getKey(), e.getMessage());
         }
-        finally {
-          Tools.safeClose(in);
-          Tools.safeClose(out);
+      }
+
+      // The assets to open, the other ones are copied
+      HashMap<String, Asset> processed = new HashMap<String, Asset>();
+      for (Map.Entry<String, URLConnection> entry : stale.entrySet()) {
+        Asset r = bilto.get(bilta.get(entry.getKey()));
+        if (r != null) {
+          processed.put(entry.getKey(), r);
+        }
+      }
+
+      // Open the assets concurrently since compiling or minifying an asset can be expensive
+      HashMap<String, Future<byte[]>> opened = new HashMap<String, Future<byte[]>>();
+      ExecutorService executor = null;
+      try {
+        if (processed.size() > 1) {
+          executor = Executors.newFixedThreadPool(Math.min(processed.size(), Runtime.getRuntime().availableProcessors()));
+          for (final Map.Entry<String, Asset> entry : processed.entrySet()) {
+            final Asset r = entry.getValue();
+            final URLConnection conn = stale.get(entry.getKey());
+            opened.put(entry.getKey(), executor.submit(new Callable<byte[]>() {
+              public byte[] call() throws Exception {
+                return Tools.bytes(r.open(entry.getKey(), conn));
+              }
+            }));
+          }
+        }
+
+        // Write the resources
+        for (Map.Entry<String, URLConnection> entry : stale.entrySet()) {
+          InputStream in = null;
+          OutputStream out = null;
+          try {
+            URLConnection conn = entry.getValue();
+            Future<byte[]> future = opened.get(entry.getKey());
+            Asset r = processed.get(entry.getKey());
+            byte[] bytes;
+            if (future != null) {
+              bytes = future.get();
+            } else if (r != null) {
+              bytes = Tools.bytes(r.open(entry.getKey(), conn));
+            } else {
+              bytes = null;
+              in = conn.getInputStream();
+            }
+            FileObject dst = context.createResource(StandardLocation.CLASS_OUTPUT, qn, entry.getKey(), context.get(metaModel.getHandle()));
+            context.info("Copying asset from source path " + conn.getURL() + " to class output " + dst.toUri());
+            out = dst.openOutputStream();
+            if (bytes != null) {
+              out.write(bytes);
+            } else {
+              Tools.copy(in, out);
+            }
+          }
+          catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw CANNOT_PROCESS_ASSET.failure(entry.getKey(), e.getMessage());
+          }
+          catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+              throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+              throw (Error)cause;
+            } else {
+              throw CANNOT_PROCESS_ASSET.failure(entry.getKey(), cause.getMessage());
+            }
+          }
+          catch (IOException e) {
+            throw CANNOT_PROCESS_ASSET.failure(entry.getKey(), e.getMessage());
+          }
+          finally {
+            Tools.safeClose(in);
+            Tools.safeClose(out);
+          }
+        }
+      }
+      finally {
+        if (executor != null) {
+          executor.shutdownNow();
         }
       }
     }
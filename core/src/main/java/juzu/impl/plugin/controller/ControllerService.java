@@ -33,6 +33,7 @@ import juzu.impl.inject.spi.InjectionContext;
 import juzu.impl.plugin.application.ApplicationService;
 import juzu.impl.plugin.controller.descriptor.ControllersDescriptor;
 import juzu.impl.request.Request;
+import juzu.impl.request.StageMonitor;
 import juzu.request.RequestParameter;
 
 import javax.inject.Inject;
@@ -51,6 +52,9 @@ public class ControllerService extends ApplicationService {
   /** . */
   final ArrayList<ValueType<?>> valueTypes = new ArrayList<ValueType<?>>();
 
+  /** . */
+  private StageMonitor monitor;
+
   /** . */
   @Inject
   private Application application;
@@ -67,6 +71,13 @@ public class ControllerService extends ApplicationService {
     return descriptor;
   }
 
+  /**
+   * @return the stage monitor or null when the request pipeline is not monitored
+   */
+  public StageMonitor getMonitor() {
+    return monitor;
+  }
+
   public ControllerResolver<ControllerHandler> getResolver() {
     return descriptor != null ? descriptor.getResolver() : null;
   }
@@ -77,9 +88,22 @@ public class ControllerService extends ApplicationService {
     for (ValueType<?> valueType : Tools.loadService(ValueType.class, context.getClassLoader())) {
       valueTypes.add(valueType);
     }
+    for (StageMonitor found : Tools.loadService(StageMonitor.class, context.getClassLoader())) {
+      monitor = found;
+      break;
+    }
     return descriptor = new ControllersDescriptor(context.getClassLoader(), context.getConfig());
   }
 
+  /**
+   * Release the stage monitor resources of the application.
+   */
+  public void close() {
+    if (monitor != null) {
+      monitor.close(super.application.getPackageName());
+    }
+  }
+
   public InjectionContext<?, ?> getInjectionContext() {
     return application.getInjectionContext();
   }
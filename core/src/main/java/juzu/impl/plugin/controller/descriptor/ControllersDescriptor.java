@@ -16,6 +16,7 @@
 
 package juzu.impl.plugin.controller.descriptor;
 
+import juzu.Consumes;
 import juzu.Response;
 import juzu.impl.common.MethodHandle;
 import juzu.impl.plugin.ServiceDescriptor;
@@ -24,6 +25,7 @@ import juzu.impl.plugin.application.descriptor.ApplicationDescriptor;
 import juzu.impl.plugin.controller.ControllerResolver;
 import juzu.impl.common.JSON;
 import juzu.impl.request.ControllerHandler;
+import juzu.request.Phase;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
@@ -61,6 +63,9 @@ public class ControllersDescriptor extends ServiceDescriptor {
   /** . */
   private final Map<MethodHandle, ControllerHandler> byHandle;
 
+  /** The event consumers by consumed event name. */
+  private final Map<String, List<ControllerHandler>> consumers;
+
   public ControllersDescriptor(ApplicationDescriptor desc) throws Exception {
     this(desc.getApplicationLoader(), desc.getConfig().getJSON("controller"));
   }
@@ -70,6 +75,7 @@ public class ControllersDescriptor extends ServiceDescriptor {
     ArrayList<ControllerHandler> handlers = new ArrayList<ControllerHandler>();
     ArrayList<juzu.impl.inject.BeanDescriptor> beans = new ArrayList<juzu.impl.inject.BeanDescriptor>();
     HashMap<MethodHandle, ControllerHandler> byHandle = new HashMap<MethodHandle, ControllerHandler>();
+    HashMap<String, List<ControllerHandler>> consumers = new HashMap<String, List<ControllerHandler>>();
 
     // Load controllers
     for (String fqn : config.getList("controllers", String.class)) {
@@ -78,6 +84,15 @@ public class ControllersDescriptor extends ServiceDescriptor {
       ControllerDescriptor bean = (ControllerDescriptor)f.get(null);
       for (ControllerHandler handler : bean.getHandlers()) {
         byHandle.put(handler.getHandle(), handler);
+        if (handler.getPhase() == Phase.EVENT) {
+          Consumes consumes = handler.getMethod().getAnnotation(Consumes.class);
+          String name = consumes != null ? consumes.value() : "";
+          List<ControllerHandler> list = consumers.get(name);
+          if (list == null) {
+            consumers.put(name, list = new ArrayList<ControllerHandler>(1));
+          }
+          list.add(handler);
+        }
       }
       controllers.add(bean);
       handlers.addAll(bean.getHandlers());
@@ -111,6 +126,7 @@ public class ControllersDescriptor extends ServiceDescriptor {
     this.beans = beans;
     this.resolver = new ControllerDescriptorResolver(this);
     this.byHandle = byHandle;
+    this.consumers = consumers;
   }
 
   public Iterable<juzu.impl.inject.BeanDescriptor> getBeans() {
@@ -182,4 +198,16 @@ public class ControllersDescriptor extends ServiceDescriptor {
   public ControllerHandler getMethodByHandle(MethodHandle handle) {
     return byHandle.get(handle);
   }
+
+  /**
+   * Returns the event controller handlers declaring to consume the specified event name, the empty name
+   * returns the handlers consuming any event.
+   *
+   * @param eventName the event name
+   * @return the consumer list
+   */
+  public List<ControllerHandler> getConsumers(String eventName) {
+    List<ControllerHandler> list = consumers.get(eventName);
+    return list != null ? list : Collections.<ControllerHandler>emptyList();
+  }
 }
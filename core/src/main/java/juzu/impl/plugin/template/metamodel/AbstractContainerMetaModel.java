@@ -24,21 +24,69 @@ import juzu.impl.plugin.application.metamodel.ApplicationMetaModel;
 import juzu.impl.metamodel.MetaModelObject;
 import juzu.impl.common.JSON;
 import juzu.impl.common.Path;
+import juzu.impl.common.Resource;
+import juzu.impl.common.Timestamped;
+import juzu.impl.common.Tools;
+import juzu.impl.template.spi.ParseContext;
+import juzu.impl.template.spi.TemplateException;
 import juzu.impl.template.spi.TemplateProvider;
 import juzu.template.TagHandler;
 
 import javax.lang.model.element.Element;
 import javax.tools.FileObject;
+import java.io.IOException;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 public abstract class AbstractContainerMetaModel extends MetaModelObject implements Iterable<TemplateMetaModel> {
 
+  /** A template resource with its pending parse. */
+  static class Parsed {
+
+    /** . */
+    final Timestamped<Resource> resource;
+
+    /** . */
+    private final Future<Serializable> model;
+
+    Parsed(Timestamped<Resource> resource, Future<Serializable> model) {
+      this.resource = resource;
+      this.model = model;
+    }
+
+    Serializable getModel() throws TemplateException {
+      try {
+        return model.get();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new TemplateException(e);
+      }
+      catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof TemplateException) {
+          throw (TemplateException)cause;
+        } else if (cause instanceof RuntimeException) {
+          throw (RuntimeException)cause;
+        } else if (cause instanceof Error) {
+          throw (Error)cause;
+        } else {
+          throw new TemplateException(cause);
+        }
+      }
+    }
+  }
+
   /** . */
   private static final Logger log = BaseProcessor.getLogger(AbstractEmitter.class);
 
@@ -60,6 +108,9 @@ public abstract class AbstractContainerMetaModel extends MetaModelObject impleme
   /** . */
   final HashMap<Path.Absolute, TemplateMetaModel> templates;
 
+  /** The templates parsed ahead of their processing during {@link #resolve()}. */
+  private transient HashMap<Path.Absolute, Parsed> parsed;
+
   public AbstractContainerMetaModel(Name name) {
     this.name = name;
     this.templates = new HashMap<Path.Absolute, TemplateMetaModel>();
@@ -82,6 +133,25 @@ public abstract class AbstractContainerMetaModel extends MetaModelObject impleme
     return handler;
   }
 
+  /**
+   * Returns the digest of a tag, it changes when the tag resolves to another tag handler or when the template of
+   * an application tag is modified.
+   *
+   * @param name the tag name
+   * @return the digest or null when the tag cannot be resolved
+   */
+  final Long digestTag(String name) {
+    TagContainerMetaModel tags = application.getChild(TagContainerMetaModel.KEY);
+    Long digest = tags.digestApplicationTag(name);
+    if (digest == null) {
+      TagHandler handler = plugin.tags.get(name);
+      if (handler != null) {
+        digest = Tools.md5(handler.getClass().getName().getBytes(Tools.UTF_8));
+      }
+    }
+    return digest;
+  }
+
   final void postActivate(TemplateMetaModelPlugin plugin) {
     this.plugin = plugin;
     evictTemplates();
@@ -118,7 +188,7 @@ public abstract class AbstractContainerMetaModel extends MetaModelObject impleme
   }
 
   /**
-   * Evict templates that are out of date.
+   * Evict templates that are out of date, a template which was touched but whose content is unchanged is kept.
    */
   private void evictTemplates() {
     log.info("Synchronizing existing templates");
@@ -130,7 +200,7 @@ public abstract class AbstractContainerMetaModel extends MetaModelObject impleme
           template.templateModel = null;
           log.info("Detected template removal " + template.getPath());
         }
-        else if (resource.getLastModified() > template.templateModel.getLastModified()) {
+        else if (resource.getLastModified() > template.templateModel.getLastModified() && !isUnchanged(template, resource)) {
           // That will force the regeneration of the template
           template.templateModel = null;
           log.info("Detected stale template " + template.getPath());
@@ -142,20 +212,123 @@ public abstract class AbstractContainerMetaModel extends MetaModelObject impleme
     }
   }
 
+  private boolean isUnchanged(TemplateMetaModel template, FileObject resource) {
+    try {
+      return Tools.md5(Tools.bytes(resource.openInputStream())) == template.templateModel.getMD5();
+    }
+    catch (IOException e) {
+      log.info("Could not read template " + template.getPath(), e);
+      return false;
+    }
+  }
+
+  /**
+   * Evict the templates using a tag that cannot be resolved anymore or whose digest changed.
+   */
+  private void evictTags() {
+    HashMap<String, Long> digests = new HashMap<String, Long>();
+    for (TemplateMetaModel template : templates.values()) {
+      if (template.templateModel != null) {
+        for (String tag : template.templateModel.getTags()) {
+          Long digest;
+          if (digests.containsKey(tag)) {
+            digest = digests.get(tag);
+          } else {
+            digests.put(tag, digest = digestTag(tag));
+          }
+          if (digest == null) {
+            template.templateModel = null;
+            log.info("Detected unresolved tag " + tag + " in template " + template.getPath());
+            break;
+          } else if (!digest.equals(template.templateModel.getTagDigest(tag))) {
+            template.templateModel = null;
+            log.info("Detected changed tag " + tag + " in template " + template.getPath());
+            break;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Record the digests of the tags used by a processed template.
+   */
+  private void recordTags(TemplateMetaModel template) {
+    if (template.templateModel != null) {
+      for (String tag : template.templateModel.getTags()) {
+        Long digest = digestTag(tag);
+        if (digest != null) {
+          template.templateModel.setTagDigest(tag, digest);
+        }
+      }
+    }
+  }
+
   void resolve() {
+    evictTags();
+
     //
-    for (final TemplateMetaModel template : new ArrayList<TemplateMetaModel>(templates.values())) {
+    ArrayList<TemplateMetaModel> stale = new ArrayList<TemplateMetaModel>();
+    for (TemplateMetaModel template : templates.values()) {
       if (template.templateModel == null) {
-        Element[] elements = getElements(template);
-        application.getProcessingContext().executeWithin(elements[0], new Callable<Void>() {
-          public Void call() throws Exception {
-            MetaModelProcessContext processContext = new MetaModelProcessContext(AbstractContainerMetaModel.this, template);
-            processContext.resolve(template);
-            return null;
+        stale.add(template);
+      }
+    }
+
+    // Parse concurrently, the processing of the templates remains sequential as it uses the processing environment
+    ExecutorService executor = null;
+    if (stale.size() > 1) {
+      executor = Executors.newFixedThreadPool(Math.min(stale.size(), Runtime.getRuntime().availableProcessors()));
+      parsed = new HashMap<Path.Absolute, Parsed>();
+      for (TemplateMetaModel template : stale) {
+        final TemplateProvider<?> provider = resolveTemplateProvider(template.getPath().getExt());
+        if (provider != null) {
+          final Timestamped<Resource> resource = new MetaModelProcessContext(this, template).resolveResource(template.getPath());
+          if (resource != null) {
+            final CharSequence source = resource.getObject().getCharSequence();
+            Future<Serializable> model = executor.submit(new Callable<Serializable>() {
+              public Serializable call() throws Exception {
+                return provider.parse(new ParseContext(), source);
+              }
+            });
+            parsed.put(template.getPath(), new Parsed(resource, model));
           }
-        });
+        }
       }
     }
+
+    //
+    try {
+      for (final TemplateMetaModel template : stale) {
+        if (template.templateModel == null) {
+          Element[] elements = getElements(template);
+          application.getProcessingContext().executeWithin(elements[0], new Callable<Void>() {
+            public Void call() throws Exception {
+              MetaModelProcessContext processContext = new MetaModelProcessContext(AbstractContainerMetaModel.this, template);
+              processContext.resolve(template);
+              return null;
+            }
+          });
+          recordTags(template);
+        }
+      }
+    }
+    finally {
+      parsed = null;
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  /**
+   * Returns the template parsed ahead of its processing.
+   *
+   * @param path the template path
+   * @return the parsed template or null
+   */
+  final Parsed getParsed(Path.Absolute path) {
+    return parsed != null ? parsed.remove(path) : null;
   }
 
   void emit() {
@@ -108,14 +108,19 @@ class MetaModelProcessContext extends ProcessContext {
     if (template instanceof TemplateMetaModel) {
       TemplateMetaModel tmm = (TemplateMetaModel)template;
       if (tmm.templateModel == null) {
-        Timestamped<Resource> resource = resolveResource(path);
+        AbstractContainerMetaModel.Parsed parsed = owner.getParsed(path);
+        Timestamped<Resource> resource = parsed != null ? parsed.resource : resolveResource(path);
         if (resource == null) {
           throw TemplateMetaModel.TEMPLATE_NOT_RESOLVED.failure(path);
         } else {
           TemplateProvider<M> provider = (TemplateProvider<M>)owner.resolveTemplateProvider(path.getExt());
           M templateAST;
           try {
-            templateAST = provider.parse(new ParseContext(), resource.getObject().getCharSequence());
+            if (parsed != null) {
+              templateAST = (M)parsed.getModel();
+            } else {
+              templateAST = provider.parse(new ParseContext(), resource.getObject().getCharSequence());
+            }
           }
           catch (TemplateException e1) {
             throw TemplateMetaModel.TEMPLATE_SYNTAX_ERROR.failure(path).initCause(e1);
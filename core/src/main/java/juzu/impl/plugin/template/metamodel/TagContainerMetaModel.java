@@ -17,12 +17,15 @@ package juzu.impl.plugin.template.metamodel;
 
 import juzu.impl.common.Name;
 import juzu.impl.common.Path;
+import juzu.impl.common.Tools;
 import juzu.impl.metamodel.Key;
 import juzu.impl.tags.SimpleTag;
 import juzu.impl.template.spi.TemplateProvider;
 import juzu.template.TagHandler;
 
 import javax.lang.model.element.Element;
+import javax.tools.FileObject;
+import java.io.IOException;
 import java.util.Collections;
 
 /** @author Julien Viet */
@@ -48,6 +51,28 @@ class TagContainerMetaModel extends AbstractContainerMetaModel {
     return null;
   }
 
+  /**
+   * Returns the digest of the template of an application tag.
+   *
+   * @param name the tag name
+   * @return the digest or null when the tag is not an application tag or its template cannot be read
+   */
+  Long digestApplicationTag(String name) {
+    TagMetaModel tag = getChild(Key.of(name, TagMetaModel.class));
+    if (tag != null) {
+      TemplateMetaModel template = tag.getChild(TemplateMetaModel.KEY);
+      FileObject resource = application.resolveResource(template.getPath());
+      if (resource != null) {
+        try {
+          return Tools.md5(Tools.bytes(resource.openInputStream()));
+        }
+        catch (IOException ignore) {
+        }
+      }
+    }
+    return null;
+  }
+
   public Template add(String name, Path.Absolute path) {
     TagMetaModel ref = addChild(Key.of(name, TagMetaModel.class), new TagMetaModel(name));
     return add(path, Collections.<TemplateRefMetaModel>singletonList(ref));
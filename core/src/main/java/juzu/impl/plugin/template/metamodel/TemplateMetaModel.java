@@ -157,6 +157,13 @@ public class TemplateMetaModel extends TemplateRefMetaModel implements Template
     }
   }
 
+  /**
+   * @return the model of the processed template or null when the template is not processed
+   */
+  public TemplateModel<?> getTemplateModel() {
+    return templateModel;
+  }
+
   public Path.Absolute getPath() {
     return path;
   }
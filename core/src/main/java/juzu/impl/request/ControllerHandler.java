@@ -16,6 +16,7 @@
 
 package juzu.impl.request;
 
+import juzu.bridge.portlet.ExpirationCache;
 import juzu.impl.common.AbstractAnnotatedElement;
 import juzu.impl.common.MethodHandle;
 import juzu.impl.common.Tools;
@@ -66,6 +67,9 @@ public final class ControllerHandler<P extends Phase> {
   /** The handle corresponding to the {@link #method} field. */
   private final MethodHandle handle;
 
+  /** The {@link ExpirationCache} annotation of the method or null, resolved once as it is read for each render. */
+  private final ExpirationCache expirationCache;
+
   public ControllerHandler(
       String id,
       P phase,
@@ -146,6 +150,7 @@ public final class ControllerHandler<P extends Phase> {
     this.parameterMap = Collections.unmodifiableMap(argumentMap);
     this.requiresPrefix = requiresPrefix;
     this.handle = new MethodHandle(method);
+    this.expirationCache = method.getAnnotation(ExpirationCache.class);
   }
 
   public MethodHandle getHandle() {
@@ -172,6 +177,13 @@ public final class ControllerHandler<P extends Phase> {
     return method.getName();
   }
 
+  /**
+   * @return the {@link ExpirationCache} annotation of the method or null
+   */
+  public ExpirationCache getExpirationCache() {
+    return expirationCache;
+  }
+
   public ControlParameter getParameter(String name) {
     return parameterMap.get(name);
   }
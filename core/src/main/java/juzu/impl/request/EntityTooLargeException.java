@@ -0,0 +1,36 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.impl.request;
+
+import java.io.IOException;
+
+/**
+ * Signals that the request entity exceeds a size limit, it is thrown by an {@link EntityUnmarshaller} or by the
+ * streams it provides to the controller and the request is answered with the <code>413</code> status.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+public class EntityTooLargeException extends IOException {
+
+  public EntityTooLargeException(String message) {
+    super(message);
+  }
+
+  public EntityTooLargeException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -49,6 +49,7 @@ public abstract class EntityUnmarshaller {
    * @param context the client context for reading the entity
    * @param contextualArguments the contextual arguments
    * @param parameterArguments the contextual parameters
+   * @throws EntityTooLargeException when the entity exceeds a size limit
    * @throws IOException anything preventing the read operation to succeed
    */
   public abstract void unmarshall(
@@ -22,6 +22,7 @@ import juzu.asset.AssetLocation;
 import juzu.impl.bridge.Parameters;
 import juzu.impl.bridge.spi.DispatchBridge;
 import juzu.impl.bridge.spi.ScopedContext;
+import juzu.impl.common.Path;
 import juzu.impl.common.RunMode;
 import juzu.impl.inject.ScopeController;
 import juzu.impl.inject.Scoped;
@@ -82,6 +83,15 @@ public class Request implements ScopingContext {
   /** . */
   final ControllerHandler<?> handler;
 
+  /** The stage monitor or null when the request pipeline is not monitored. */
+  final StageMonitor monitor;
+
+  /** The application package name reported to the monitor. */
+  final String packageName;
+
+  /** The time spent in the nested stages of the stage being monitored. */
+  long nested;
+
   /** . */
   private Map<String, RequestParameter> parameterArguments;
 
@@ -97,6 +107,8 @@ public class Request implements ScopingContext {
     this.bridge = bridge;
     this.controllerPlugin = controllerPlugin;
     this.handler = handler;
+    this.monitor = controllerPlugin.getMonitor();
+    this.packageName = monitor != null ? controllerPlugin.getApplication().getDescriptor().getPackageName() : null;
     this.parameterArguments = new HashMap<String, RequestParameter>();
     this.contextualArguments = new HashMap<ContextualParameter, Object>();
   }
@@ -141,6 +153,27 @@ public class Request implements ScopingContext {
     return handler;
   }
 
+  /**
+   * @return true when the request pipeline is monitored
+   */
+  public boolean isMonitored() {
+    return monitor != null;
+  }
+
+  /**
+   * Report the time spent rendering a template to the stage monitor, this time is excluded from the time reported
+   * for the stage or the filter rendering the template.
+   *
+   * @param path the template path
+   * @param nanos the time in nanoseconds
+   */
+  public void recordRendering(Path path, long nanos) {
+    if (monitor != null) {
+      monitor.recordRendering(packageName, handler, path, nanos);
+      nested += nanos;
+    }
+  }
+
   public Phase getPhase() {
     return handler.getPhase();
   }
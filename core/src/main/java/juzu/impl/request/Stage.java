@@ -80,20 +80,45 @@ public abstract class Stage {
       RequestFilter plugin = filters.get(index);
       try {
         index++;
-        return (Response)plugin.handle(this);
+        return monitor(plugin);
       }
       finally {
         index--;
       }
     }
     else if (index == filters.size()) {
-      return response();
+      return monitor(null);
     }
     else {
       throw new AssertionError();
     }
   }
 
+  /**
+   * Invoke the filter or the stage response and report its time to the stage monitor. The time of the
+   * nested stages and filters is accumulated in the request so it can be substracted.
+   *
+   * @param filter the filter or null for the stage response
+   * @return the response
+   */
+  private Response monitor(RequestFilter filter) {
+    StageMonitor monitor = request.monitor;
+    if (monitor == null) {
+      return filter != null ? (Response)filter.handle(this) : response();
+    }
+    long nested = request.nested;
+    request.nested = 0;
+    long start = System.nanoTime();
+    try {
+      return filter != null ? (Response)filter.handle(this) : response();
+    }
+    finally {
+      long elapsed = System.nanoTime() - start;
+      monitor.record(request.packageName, request.handler, this, filter, elapsed - request.nested);
+      request.nested = nested + elapsed;
+    }
+  }
+
   protected abstract Response response();
 
   /**
@@ -145,6 +170,9 @@ public abstract class Stage {
                     break;
                   }
                 }
+                catch (EntityTooLargeException e) {
+                  return Response.status(413);
+                }
                 catch (IOException e) {
                   throw new UnsupportedOperationException("handle me gracefully", e);
                 }
@@ -424,6 +452,9 @@ public abstract class Stage {
         return null;
       }
       catch (InvocationTargetException e) {
+        if (e.getCause() instanceof EntityTooLargeException) {
+          return Response.status(413);
+        }
         return Response.error(e.getCause());
       }
       catch (IllegalAccessException e) {
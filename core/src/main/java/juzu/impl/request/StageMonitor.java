@@ -0,0 +1,66 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.impl.request;
+
+import juzu.impl.common.Path;
+
+/**
+ * The stage monitor is notified of the time spent in each stage and each request filter of the request pipeline
+ * and of the time spent rendering templates. The reported time excludes the time spent in the nested stages, filters
+ * and template renderings, so the times of a request sum up to the time of the whole pipeline.
+ *
+ * Monitoring is disabled unless a monitor implementation is declared with the {@link java.util.ServiceLoader}
+ * mechanism, for instance declaring the {@link juzu.impl.request.monitor.JMXStageMonitor} in the
+ * <code>META-INF/services/juzu.impl.request.StageMonitor</code> file publishes the stage times in JMX. A monitor
+ * is created for each application. The {@link #record} method is called for each request, it should not allocate
+ * and must be thread safe.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+public abstract class StageMonitor {
+
+  /**
+   * Record the time spent in a stage or in a filter of a stage.
+   *
+   * @param packageName the application package name
+   * @param handler the request handler
+   * @param stage the stage
+   * @param filter the filter or null when the time is spent in the stage itself
+   * @param nanos the time in nanoseconds
+   */
+  public abstract void record(String packageName, ControllerHandler<?> handler, Stage stage, RequestFilter<?> filter, long nanos);
+
+  /**
+   * Record the time spent rendering a template, this time is not reported by the {@link #record} method for the
+   * stage or the filter rendering the template.
+   *
+   * @param packageName the application package name
+   * @param handler the request handler
+   * @param path the template path
+   * @param nanos the time in nanoseconds
+   */
+  public void recordRendering(String packageName, ControllerHandler<?> handler, Path path, long nanos) {
+  }
+
+  /**
+   * Release the resources of the monitor for the specified application, this is called when the application stops.
+   *
+   * @param packageName the application package name
+   */
+  public void close(String packageName) {
+  }
+}
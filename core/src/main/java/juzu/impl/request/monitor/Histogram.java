@@ -0,0 +1,127 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.impl.request.monitor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock free histogram of times with power of two buckets of microseconds: the bucket <code>i</code> counts the times
+ * lesser than <code>2^i</code> microseconds, so the percentiles are estimated with their bucket upper bound.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+public class Histogram implements HistogramMBean {
+
+  /** . */
+  private static final int SIZE = 32;
+
+  /** . */
+  private final AtomicLongArray buckets = new AtomicLongArray(SIZE);
+
+  /** . */
+  private final AtomicLong count = new AtomicLong();
+
+  /** . */
+  private final AtomicLong total = new AtomicLong();
+
+  /** . */
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Record a time.
+   *
+   * @param nanos the time in nanoseconds
+   */
+  public void record(long nanos) {
+    long micros = nanos < 0 ? 0 : nanos / 1000;
+    int index = Math.min(SIZE - 1, 64 - Long.numberOfLeadingZeros(micros));
+    buckets.incrementAndGet(index);
+    count.incrementAndGet();
+    total.addAndGet(micros);
+    while (true) {
+      long current = max.get();
+      if (micros <= current || max.compareAndSet(current, micros)) {
+        break;
+      }
+    }
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  public long getTotalTime() {
+    return total.get();
+  }
+
+  public long getMeanTime() {
+    long count = this.count.get();
+    return count == 0 ? 0 : total.get() / count;
+  }
+
+  public long getMaxTime() {
+    return max.get();
+  }
+
+  public long getMedianTime() {
+    return getPercentile(50);
+  }
+
+  public long get90thPercentileTime() {
+    return getPercentile(90);
+  }
+
+  public long get99thPercentileTime() {
+    return getPercentile(99);
+  }
+
+  /**
+   * Estimate a percentile of the recorded times.
+   *
+   * @param percent the percent
+   * @return the upper bound of the bucket of the percentile in microseconds
+   */
+  public long getPercentile(int percent) {
+    long[] snapshot = new long[SIZE];
+    long count = 0;
+    for (int i = 0;i < SIZE;i++) {
+      count += snapshot[i] = buckets.get(i);
+    }
+    if (count == 0) {
+      return 0;
+    }
+    long threshold = (count * percent + 99) / 100;
+    long sum = 0;
+    for (int i = 0;i < SIZE;i++) {
+      sum += snapshot[i];
+      if (sum >= threshold) {
+        return Math.min(1L << i, max.get());
+      }
+    }
+    return max.get();
+  }
+
+  public void reset() {
+    for (int i = 0;i < SIZE;i++) {
+      buckets.set(i, 0);
+    }
+    count.set(0);
+    total.set(0);
+    max.set(0);
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.impl.request.monitor;
+
+/**
+ * The management interface of an {@link Histogram}, times are expressed in microseconds.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+public interface HistogramMBean {
+
+  long getCount();
+
+  long getTotalTime();
+
+  long getMeanTime();
+
+  long getMaxTime();
+
+  long getMedianTime();
+
+  long get90thPercentileTime();
+
+  long get99thPercentileTime();
+
+  void reset();
+
+}
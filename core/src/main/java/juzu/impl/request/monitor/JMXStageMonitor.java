@@ -0,0 +1,225 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.impl.request.monitor;
+
+import juzu.impl.common.Path;
+import juzu.impl.request.ControllerHandler;
+import juzu.impl.request.RequestFilter;
+import juzu.impl.request.Stage;
+import juzu.impl.request.StageMonitor;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A stage monitor recording an {@link Histogram} for each stage and each request filter of a handler. The
+ * histograms are registered in the platform MBean server on their first use with the name
+ * <code>juzu:application=<i>package</i>,instance=<i>instance</i>,handler=<i>handler</i>,stage=<i>stage</i>[,filter=<i>filter</i>]</code>,
+ * the instance qualifier distinguishes the monitors of several deployments of the same application. The rendering
+ * of a template is recorded with the name
+ * <code>juzu:application=<i>package</i>,instance=<i>instance</i>,handler=<i>handler</i>,template=<i>path</i></code>.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+public class JMXStageMonitor extends StageMonitor {
+
+  /** . */
+  private static final AtomicInteger instances = new AtomicInteger();
+
+  /** . */
+  private final MBeanServer server;
+
+  /** . */
+  private final String instance;
+
+  /** . */
+  private final ConcurrentHashMap<ControllerHandler<?>, HandlerHistograms> handlers;
+
+  public JMXStageMonitor() {
+    this(ManagementFactory.getPlatformMBeanServer());
+  }
+
+  public JMXStageMonitor(MBeanServer server) {
+    this.server = server;
+    this.instance = Integer.toString(instances.incrementAndGet());
+    this.handlers = new ConcurrentHashMap<ControllerHandler<?>, HandlerHistograms>();
+  }
+
+  /**
+   * @return the instance qualifier of the object names registered by this monitor
+   */
+  public String getInstance() {
+    return instance;
+  }
+
+  @Override
+  public void record(String packageName, ControllerHandler<?> handler, Stage stage, RequestFilter<?> filter, long nanos) {
+    histograms(packageName, handler).get(stage, filter).record(nanos);
+  }
+
+  @Override
+  public void recordRendering(String packageName, ControllerHandler<?> handler, Path path, long nanos) {
+    histograms(packageName, handler).get(path).record(nanos);
+  }
+
+  @Override
+  public void close(String packageName) {
+    for (Iterator<HandlerHistograms> i = handlers.values().iterator();i.hasNext();) {
+      HandlerHistograms histograms = i.next();
+      if (histograms.packageName.equals(packageName)) {
+        i.remove();
+        histograms.unregister();
+      }
+    }
+  }
+
+  private HandlerHistograms histograms(String packageName, ControllerHandler<?> handler) {
+    HandlerHistograms histograms = handlers.get(handler);
+    if (histograms == null) {
+      histograms = new HandlerHistograms(packageName, handler);
+      HandlerHistograms previous = handlers.putIfAbsent(handler, histograms);
+      if (previous != null) {
+        histograms = previous;
+      }
+    }
+    return histograms;
+  }
+
+  private static String nameOf(Class<?> type) {
+    String name = type.getSimpleName();
+    return name.length() > 0 ? name : type.getName();
+  }
+
+  /**
+   * The histograms of a stage: the histogram of the stage itself and the histograms of its filters.
+   */
+  private static class StageHistograms {
+
+    /** . */
+    private volatile Histogram self;
+
+    /** . */
+    private final ConcurrentHashMap<Class<?>, Histogram> filters = new ConcurrentHashMap<Class<?>, Histogram>();
+
+  }
+
+  private class HandlerHistograms {
+
+    /** . */
+    private final String packageName;
+
+    /** . */
+    private final ControllerHandler<?> handler;
+
+    /** . */
+    private final ConcurrentHashMap<Class<?>, StageHistograms> stages;
+
+    /** . */
+    private final ConcurrentHashMap<Path, Histogram> templates;
+
+    /** The registered names. */
+    private final Map<ObjectName, Histogram> names;
+
+    private HandlerHistograms(String packageName, ControllerHandler<?> handler) {
+      this.packageName = packageName;
+      this.handler = handler;
+      this.stages = new ConcurrentHashMap<Class<?>, StageHistograms>();
+      this.templates = new ConcurrentHashMap<Path, Histogram>();
+      this.names = new ConcurrentHashMap<ObjectName, Histogram>();
+    }
+
+    private Histogram get(Stage stage, RequestFilter<?> filter) {
+      StageHistograms histograms = stages.get(stage.getClass());
+      Histogram histogram;
+      if (histograms != null) {
+        histogram = filter != null ? histograms.filters.get(filter.getClass()) : histograms.self;
+        if (histogram != null) {
+          return histogram;
+        }
+      }
+      return create(stage, filter);
+    }
+
+    private Histogram get(Path path) {
+      Histogram histogram = templates.get(path);
+      return histogram != null ? histogram : create(path);
+    }
+
+    private synchronized Histogram create(Path path) {
+      Histogram histogram = templates.get(path);
+      if (histogram == null) {
+        histogram = new Histogram();
+        templates.put(path, histogram);
+        register(prefix() + ",template=" + ObjectName.quote(path.getCanonical()), histogram);
+      }
+      return histogram;
+    }
+
+    private String prefix() {
+      return "juzu:application=" + ObjectName.quote(packageName) + ",instance=" + instance + ",handler=" + ObjectName.quote(handler.getHandle().toString());
+    }
+
+    private synchronized Histogram create(Stage stage, RequestFilter<?> filter) {
+      StageHistograms histograms = stages.get(stage.getClass());
+      if (histograms == null) {
+        stages.put(stage.getClass(), histograms = new StageHistograms());
+      }
+      Histogram histogram = filter != null ? histograms.filters.get(filter.getClass()) : histograms.self;
+      if (histogram == null) {
+        histogram = new Histogram();
+        StringBuilder name = new StringBuilder(prefix());
+        name.append(",stage=").append(ObjectName.quote(nameOf(stage.getClass())));
+        if (filter != null) {
+          name.append(",filter=").append(ObjectName.quote(filter.getClass().getName()));
+          histograms.filters.put(filter.getClass(), histogram);
+        } else {
+          histograms.self = histogram;
+        }
+        register(name.toString(), histogram);
+      }
+      return histogram;
+    }
+
+    private void register(String name, Histogram histogram) {
+      try {
+        ObjectName objectName = new ObjectName(name);
+        server.registerMBean(histogram, objectName);
+        names.put(objectName, histogram);
+      }
+      catch (JMException ignore) {
+        // The histogram is still recorded but not visible
+      }
+    }
+
+    private void unregister() {
+      for (ObjectName name : names.keySet()) {
+        try {
+          server.unregisterMBean(name);
+        }
+        catch (JMException ignore) {
+        }
+      }
+      names.clear();
+    }
+  }
+}
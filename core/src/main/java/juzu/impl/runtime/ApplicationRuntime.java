@@ -30,6 +30,7 @@ import juzu.impl.common.Logger;
 import juzu.impl.plugin.application.Application;
 import juzu.impl.plugin.application.descriptor.ApplicationDescriptor;
 import juzu.impl.plugin.asset.AssetService;
+import juzu.impl.plugin.controller.ControllerService;
 import juzu.impl.resource.ResourceResolver;
 
 import java.io.Closeable;
@@ -192,6 +193,12 @@ public class ApplicationRuntime<P, R> implements Closeable {
     if (assetServer != null) {
       assetServer.unregister(application);
     }
+    if (application != null) {
+      ControllerService controllerService = (ControllerService)application.getPlugin("controller");
+      if (controllerService != null) {
+        controllerService.close();
+      }
+    }
     Tools.safeClose(injectionContext);
     application = null;
     injectionContext = null;
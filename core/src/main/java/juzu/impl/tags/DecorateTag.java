@@ -79,14 +79,14 @@ public class DecorateTag extends ExtendedTagHandler {
 
   @Override
   public void render(TemplateRenderContext context, Renderable body, Map<String, String> args) throws IOException {
-    InsertTag.current.get().addLast(body);
+    context.pushBody(body);
     try {
       String path = args.get("path");
       TemplateStub template = context.resolveTemplate(path);
       template.render(context);
     }
     finally {
-      InsertTag.current.get().removeLast();
+      context.popBody();
     }
   }
 }
@@ -21,34 +21,24 @@ import juzu.template.TagHandler;
 import juzu.template.TemplateRenderContext;
 
 import java.io.IOException;
-import java.util.LinkedList;
 import java.util.Map;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 public class InsertTag extends TagHandler {
 
-  /** . */
-  static final ThreadLocal<LinkedList<Renderable>> current = new ThreadLocal<LinkedList<Renderable>>() {
-    @Override
-    protected LinkedList<Renderable> initialValue() {
-      return new LinkedList<Renderable>();
-    }
-  };
-
   public InsertTag() {
     super("insert");
   }
 
   @Override
   public void render(TemplateRenderContext context, Renderable body, Map<String, String> args) throws IOException {
-    Renderable body_ = current.get().peekLast();
+    Renderable body_ = context.popBody();
     if (body_ != null) {
-      current.get().removeLast();
       try {
         body_.render(context);
       }
       finally {
-        current.get().addLast(body);
+        context.pushBody(body);
       }
     }
   }
@@ -85,12 +85,12 @@ public class SimpleTag extends TagHandler {
         }
       }
     };
-    InsertTag.current.get().addLast(wrappedBody);
+    context.pushBody(wrappedBody);
     try {
       stub.render(context);
     }
     finally {
-      InsertTag.current.get().removeLast();
+      context.popBody();
       context.setAttribute("parameters", _parameters);
     }
   }
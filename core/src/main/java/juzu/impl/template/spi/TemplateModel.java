@@ -19,7 +19,9 @@ package juzu.impl.template.spi;
 import juzu.impl.common.Path;
 
 import java.io.Serializable;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * The representation of a compilable template in a context.
@@ -38,6 +40,9 @@ public class TemplateModel<M extends Serializable> implements Serializable {
   /** . */
   private final LinkedHashSet<String> parameters;
 
+  /** The names of the tags used by the template and their digests. */
+  private final LinkedHashMap<String, Long> tags;
+
   /** The last modified date. */
   private final long lastModified;
 
@@ -51,6 +56,7 @@ public class TemplateModel<M extends Serializable> implements Serializable {
       long md5) {
     this.model = model;
     this.parameters = new LinkedHashSet<String>();
+    this.tags = new LinkedHashMap<String, Long>();
     this.lastModified = lastModified;
     this.path = path;
     this.md5 = md5;
@@ -79,4 +85,28 @@ public class TemplateModel<M extends Serializable> implements Serializable {
   public void addParameter(String parameterName) {
     parameters.add(parameterName);
   }
+
+  public Set<String> getTags() {
+    return tags.keySet();
+  }
+
+  public void addTag(String tagName) {
+    if (!tags.containsKey(tagName)) {
+      tags.put(tagName, null);
+    }
+  }
+
+  /**
+   * Returns the digest of a tag used by the template when it was processed.
+   *
+   * @param tagName the tag name
+   * @return the tag digest or null when it is not known
+   */
+  public Long getTagDigest(String tagName) {
+    return tags.get(tagName);
+  }
+
+  public void setTagDigest(String tagName, long digest) {
+    tags.put(tagName, digest);
+  }
 }
@@ -87,6 +87,7 @@ public class ProcessPhase extends CompilationPhase {
     }
     else if (node instanceof ASTNode.Tag) {
       ASTNode.Tag nodeTag = (ASTNode.Tag)node;
+      templateModel.addTag(nodeTag.getName());
       TagHandler handler = get(nodeTag);
       if (handler instanceof ExtendedTagHandler) {
         ((ExtendedTagHandler)handler).process(this, nodeTag, templateModel);
@@ -21,6 +21,9 @@ import juzu.template.TemplateRenderContext;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 class BindingImpl extends Binding {
@@ -31,12 +34,19 @@ class BindingImpl extends Binding {
   /** . */
   private TemplateRenderContext renderContext;
 
-  public BindingImpl(TemplateRenderContext renderContext) {
+  /** The names that are not beans, shared by the renders of the same template. */
+  private final Set<String> unresolved;
+
+  /** The beans resolved during this render. */
+  private HashMap<String, Object> beans;
+
+  public BindingImpl(GroovyTemplateStub stub, TemplateRenderContext renderContext) {
     super(renderContext.getAttributes());
 
     //
-    this.printer = new GroovyPrinter(renderContext);
+    this.printer = new GroovyPrinter(renderContext, stub);
     this.renderContext = renderContext;
+    this.unresolved = stub.unresolved;
   }
 
   @Override
@@ -49,8 +59,29 @@ class BindingImpl extends Binding {
       value = renderContext;
     }
     else {
+      value = renderContext.getAttribute(name);
+      if (value == null) {
+        Map variables = getVariables();
+        value = variables.get(name);
+        if (value == null && !variables.containsKey(name)) {
+          value = resolveBean(name);
+          if (value == null) {
+            value = super.getVariable(name);
+          }
+        }
+      }
+    }
+    return value;
+  }
+
+  private Object resolveBean(String name) {
+    if (unresolved.contains(name)) {
+      return null;
+    }
+    Object bean = beans != null ? beans.get(name) : null;
+    if (bean == null) {
       try {
-        value = renderContext.resolveBean(name);
+        bean = renderContext.resolveBean(name);
       }
       catch (InvocationTargetException e) {
         Throwable cause = e.getCause();
@@ -64,13 +95,15 @@ class BindingImpl extends Binding {
           throw new UndeclaredThrowableException(cause);
         }
       }
-      if (value == null) {
-        value = renderContext.getAttribute(name);
-        if (value == null) {
-          value = super.getVariable(name);
+      if (bean != null) {
+        if (beans == null) {
+          beans = new HashMap<String, Object>();
         }
+        beans.put(name, bean);
+      } else {
+        unresolved.add(name);
       }
     }
-    return value;
+    return bean;
   }
 }
@@ -34,13 +34,21 @@ public class GroovyPrinter extends GroovyObjectSupport implements GroovyIntercep
   /** . */
   final TemplateRenderContext renderContext;
 
+  /** . */
+  final GroovyTemplateStub stub;
+
   public GroovyPrinter(TemplateRenderContext renderContext) throws NullPointerException {
+    this(renderContext, null);
+  }
+
+  public GroovyPrinter(TemplateRenderContext renderContext, GroovyTemplateStub stub) throws NullPointerException {
     if (renderContext == null) {
       throw new NullPointerException("No null render context accepted");
     }
 
     //
     this.renderContext = renderContext;
+    this.stub = stub;
   }
 
   /**
@@ -100,7 +108,7 @@ public class GroovyPrinter extends GroovyObjectSupport implements GroovyIntercep
       }
     } else if (o instanceof MessageKey) {
       MessageKey key = (MessageKey)o;
-      o = renderContext.resolveMessage(key);
+      o = stub != null ? stub.resolveMessage(renderContext, key) : renderContext.resolveMessage(key);
     }
 
     //
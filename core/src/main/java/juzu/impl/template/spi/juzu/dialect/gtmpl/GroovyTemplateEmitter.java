@@ -122,7 +122,9 @@ public class GroovyTemplateEmitter extends DialectTemplateEmitter {
           append(i).
           append(" = new ").
           append(MessageKey.class.getName()).
-          append("('");
+          append("(").
+          append(i).
+          append(", '");
       juzu.impl.common.Tools.escape(messageKey, builder);
       builder.
           append("');").
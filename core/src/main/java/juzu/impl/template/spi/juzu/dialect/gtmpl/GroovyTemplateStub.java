@@ -30,8 +30,15 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Field;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 public class GroovyTemplateStub extends TemplateStub {
@@ -42,17 +49,33 @@ public class GroovyTemplateStub extends TemplateStub {
   /** . */
   private HashMap<Integer, Foo> locationTable;
 
+  /** The message keys indexed by their ordinal. */
+  private MessageKey[] messageKeys;
+
+  /** The message tables per locale. */
+  private final ConcurrentHashMap<Locale, MessageTable> messageTables;
+
+  /** The names that don't resolve to a bean. */
+  final Set<String> unresolved;
+
   public GroovyTemplateStub(ClassLoader loader, String templateId) {
     super(loader, templateId);
 
     //
     this.scriptClass = null;
     this.locationTable = null;
+    this.messageKeys = null;
+    this.messageTables = new ConcurrentHashMap<Locale, MessageTable>();
+    this.unresolved = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
   }
 
   @Override
   public void doInit(ClassLoader loader) {
 
+    // The beans and the bundles may have changed
+    unresolved.clear();
+    messageTables.clear();
+
     // The class fqn
     String fqn = id + "_";
 
@@ -94,6 +117,18 @@ public class GroovyTemplateStub extends TemplateStub {
       String constantsName = prefix + "C" + simpleName;
       Class<?> constants = scriptClass.getClassLoader().loadClass(constantsName);
       locationTable = (HashMap<Integer, Foo>)constants.getField("TABLE").get(null);
+      ArrayList<MessageKey> keys = new ArrayList<MessageKey>();
+      while (true) {
+        Field field;
+        try {
+          field = constants.getField("m" + keys.size());
+        }
+        catch (NoSuchFieldException ignore) {
+          break;
+        }
+        keys.add((MessageKey)field.get(null));
+      }
+      messageKeys = keys.toArray(new MessageKey[keys.size()]);
     }
     catch (Exception e) {
       throw new UnsupportedOperationException("Handle me gracefully", e);
@@ -129,7 +164,7 @@ public class GroovyTemplateStub extends TemplateStub {
 
   @Override
   public void doRender(TemplateRenderContext renderContext) throws TemplateExecutionException, IOException {
-    Binding binding = new BindingImpl(renderContext);
+    Binding binding = new BindingImpl(this, renderContext);
 
     //
     Script script = InvokerHelper.createScript(scriptClass, binding);
@@ -154,6 +189,32 @@ public class GroovyTemplateStub extends TemplateStub {
     }
   }
 
+  /**
+   * Resolves a message of this template, the message table of the render locale is built once with the
+   * render bundle and then the resolution is an array access. The table is keyed by the locale only since
+   * the bundle of an application is determined by the locale, portals may however return a new bundle
+   * instance for each request.
+   *
+   * @param renderContext the render context
+   * @param key the message key
+   * @return the resolved message
+   */
+  String resolveMessage(TemplateRenderContext renderContext, MessageKey key) {
+    int index = key.getIndex();
+    Locale locale = renderContext.getLocale();
+    if (locale != null && index >= 0 && index < messageKeys.length) {
+      ResourceBundle bundle = renderContext.resolveBundle();
+      if (bundle != null) {
+        MessageTable table = messageTables.get(locale);
+        if (table == null) {
+          messageTables.put(locale, table = new MessageTable(bundle, messageKeys));
+        }
+        return table.messages[index];
+      }
+    }
+    return renderContext.resolveMessage(key);
+  }
+
   private TemplateExecutionException buildRuntimeException(Throwable t) {
     StackTraceElement[] trace = t.getStackTrace();
 
@@ -196,4 +257,20 @@ public class GroovyTemplateStub extends TemplateStub {
       return new TemplateExecutionException(id, null, null, t);
     }
   }
+
+  private static class MessageTable {
+
+    /** . */
+    final String[] messages;
+
+    private MessageTable(ResourceBundle bundle, MessageKey[] keys) {
+      String[] messages = new String[keys.length];
+      for (int i = 0;i < keys.length;i++) {
+        String key = keys[i].getValue();
+        String value = bundle.containsKey(key) ? bundle.getString(key) : null;
+        messages[i] = value != null ? value : "";
+      }
+      this.messages = messages;
+    }
+  }
 }
@@ -23,13 +23,30 @@ package juzu.impl.template.spi.juzu.dialect.gtmpl;
  */
 public class MessageKey {
 
+  /** . */
+  private final int index;
+
   /** . */
   private final String value;
 
   public MessageKey(String value) {
+    this(-1, value);
+  }
+
+  public MessageKey(int index, String value) {
+    this.index = index;
     this.value = value;
   }
 
+  /**
+   * Returns the index of this key in its template or <code>-1</code> when the key is not indexed.
+   *
+   * @return the key index
+   */
+  public int getIndex() {
+    return index;
+  }
+
   public String getValue() {
     return value;
   }
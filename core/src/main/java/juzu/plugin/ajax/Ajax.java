@@ -25,4 +25,13 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface Ajax {
+
+  /**
+   * When false the URL of the handler is only declared by the pages rendered by the views of the controller
+   * declaring the handler, otherwise it is declared by all the pages of the application.
+   *
+   * @return true when the handler URL is declared by every page
+   */
+  boolean global() default true;
+
 }
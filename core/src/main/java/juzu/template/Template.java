@@ -39,7 +39,6 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -347,6 +346,9 @@ public abstract class Template {
         // Get the specified locale or the current user's one
         final Locale locale = computeLocale();
 
+        // Capture the request so the template can be rendered by another thread
+        final Request request = Request.getCurrent();
+
         //
         TemplateStub stub = plugin.resolveTemplateStub(path);
         if (stub == null) {
@@ -384,35 +386,44 @@ public abstract class Template {
           }
 
           @Override
-          public String resolveMessage(MessageKey key) {
+          public ResourceBundle resolveBundle() {
 
             // Lazy load the bundle here
             if (!bundleLoaded) {
               bundleLoaded = true;
               if (locale != null) {
-                ApplicationContext applicationContext = Request.getCurrent().getApplicationContext();
+                ApplicationContext applicationContext = request.getApplicationContext();
                 if (applicationContext != null) {
                   bundle = applicationContext.resolveBundle(locale);
                 }
               }
             }
+            return bundle;
+          }
 
-            //
+          @Override
+          public String resolveMessage(MessageKey key) {
+            ResourceBundle bundle = resolveBundle();
             String value = null;
-            if (bundle != null) {
-              try {
-                value = bundle.getString(key.getValue());
-              }
-              catch (MissingResourceException notFound) {
-                // System.out.println("Could not resolve message " + key.getValue());
-              }
+            if (bundle != null && bundle.containsKey(key.getValue())) {
+              value = bundle.getString(key.getValue());
             }
             return value != null ? value : "";
           }
         };
 
         //
-        context.render(stream);
+        if (request != null && request.isMonitored()) {
+          long start = System.nanoTime();
+          try {
+            context.render(stream);
+          }
+          finally {
+            request.recordRendering(path, System.nanoTime() - start);
+          }
+        } else {
+          context.render(stream);
+        }
       }
       catch (IOException e) {
         throw new UndeclaredIOException(e);
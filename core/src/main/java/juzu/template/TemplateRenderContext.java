@@ -28,8 +28,10 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.Locale;
 import java.util.Map;
+import java.util.ResourceBundle;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 public class TemplateRenderContext {
@@ -49,6 +51,9 @@ public class TemplateRenderContext {
   /** . */
   private final TemplateStub stub;
 
+  /** The bodies of the enclosing decorate tags, consumed by the insert tag. */
+  private LinkedList<Renderable> bodies;
+
   public TemplateRenderContext(TemplateStub stub) {
     this(stub, (Map<String, Object>)null);
   }
@@ -130,10 +135,40 @@ public class TemplateRenderContext {
     return null;
   }
 
+  /**
+   * Resolves the resource bundle used for resolving the template messages.
+   *
+   * @return the resource bundle or null when no bundle is available
+   */
+  public ResourceBundle resolveBundle() {
+    return null;
+  }
+
   public String resolveMessage(MessageKey key) {
     return key.toString();
   }
 
+  /**
+   * Push the body of a decorating tag, the body will be rendered by the next insert tag.
+   *
+   * @param body the body
+   */
+  public void pushBody(Renderable body) {
+    if (bodies == null) {
+      bodies = new LinkedList<Renderable>();
+    }
+    bodies.addLast(body);
+  }
+
+  /**
+   * Pop the last pushed body.
+   *
+   * @return the body or null when there is no body
+   */
+  public Renderable popBody() {
+    return bodies != null ? bodies.pollLast() : null;
+  }
+
   public StringBuilder render() throws IOException {
     StringBuilder buffer = new StringBuilder();
     OutputStream consumer = OutputStream.create(Tools.UTF_8, buffer);
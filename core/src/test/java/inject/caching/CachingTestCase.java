@@ -0,0 +1,64 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package inject.caching;
+
+import inject.AbstractInjectTestCase;
+import juzu.impl.common.Tools;
+import juzu.impl.inject.spi.CachingInjectionContext;
+import juzu.impl.inject.spi.InjectionContext;
+import juzu.impl.inject.spi.InjectorProvider;
+import org.junit.Test;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class CachingTestCase<B, I> extends AbstractInjectTestCase<B, I> {
+
+  public CachingTestCase(InjectorProvider di) {
+    super(di);
+  }
+
+  @Test
+  public void testResolution() throws Exception {
+    init();
+    bootstrap.declareBean(SingletonBean.class, null, null, null);
+    bootstrap.declareBean(DependentBean.class, null, null, null);
+    boot();
+
+    //
+    InjectionContext<B, I> context = new CachingInjectionContext<B, I>(mgr);
+    B bean = context.resolveBean(SingletonBean.class);
+    assertNotNull(bean);
+    assertSame(bean, context.resolveBean(SingletonBean.class));
+    assertNull(context.resolveBean("foo"));
+    assertNull(context.resolveBean("foo"));
+    assertSame(context.resolveBeans(SingletonBean.class), context.resolveBeans(SingletonBean.class));
+    assertEquals(1, Tools.list(context.resolveBeans(SingletonBean.class)).size());
+  }
+
+  @Test
+  public void testInstances() throws Exception {
+    init();
+    bootstrap.declareBean(SingletonBean.class, null, null, null);
+    bootstrap.declareBean(DependentBean.class, null, null, null);
+    boot();
+
+    //
+    InjectionContext<B, I> context = new CachingInjectionContext<B, I>(mgr);
+    assertTrue(context.isSingleton(context.resolveBean(SingletonBean.class)));
+    assertFalse(context.isSingleton(context.resolveBean(DependentBean.class)));
+    assertSame(context.resolveInstance(SingletonBean.class), context.resolveInstance(SingletonBean.class));
+    assertNotSame(context.resolveInstance(DependentBean.class), context.resolveInstance(DependentBean.class));
+  }
+}
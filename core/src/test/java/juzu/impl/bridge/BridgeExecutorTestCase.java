@@ -0,0 +1,109 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.impl.bridge;
+
+import juzu.test.AbstractTestCase;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class BridgeExecutorTestCase extends AbstractTestCase {
+
+  @Test
+  public void testCounters() throws Exception {
+    BridgeExecutor executor = new BridgeExecutor(new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(1)));
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(2);
+    Runnable task = new Runnable() {
+      public void run() {
+        started.countDown();
+        try {
+          release.await();
+        }
+        catch (InterruptedException ignore) {
+        }
+        done.countDown();
+      }
+    };
+    try {
+      executor.execute(task);
+      assertTrue(started.await(10, TimeUnit.SECONDS));
+      executor.execute(task);
+      assertEquals(1, executor.getActiveCount());
+      assertEquals(1, executor.getQueueDepth());
+      try {
+        executor.execute(task);
+        fail();
+      }
+      catch (RejectedExecutionException expected) {
+      }
+      assertEquals(1, executor.getRejectedCount());
+      assertEquals(1, executor.getQueueDepth());
+      release.countDown();
+      assertTrue(done.await(10, TimeUnit.SECONDS));
+    }
+    finally {
+      executor.close();
+    }
+    long now = System.currentTimeMillis();
+    while (executor.getCompletedCount() < 2 && System.currentTimeMillis() - now < 10000) {
+      Thread.sleep(10);
+    }
+    assertEquals(2, executor.getCompletedCount());
+    assertEquals(0, executor.getActiveCount());
+    assertEquals(0, executor.getQueueDepth());
+  }
+
+  @Test
+  public void testMonitor() throws Exception {
+    BridgeExecutor executor = new BridgeExecutor(new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(1)));
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName("juzu:type=BridgeExecutor,context=" + ObjectName.quote("/foo") + ",servlet=" + ObjectName.quote("bar"));
+    try {
+      executor.register(name);
+      assertTrue(server.isRegistered(name));
+      final CountDownLatch done = new CountDownLatch(1);
+      executor.execute(new Runnable() {
+        public void run() {
+          done.countDown();
+        }
+      });
+      assertTrue(done.await(10, TimeUnit.SECONDS));
+      long now = System.currentTimeMillis();
+      while (executor.getCompletedCount() < 1 && System.currentTimeMillis() - now < 10000) {
+        Thread.sleep(10);
+      }
+      assertEquals(1L, server.getAttribute(name, "CompletedCount"));
+      assertEquals(0L, server.getAttribute(name, "RejectedCount"));
+      assertEquals(0, server.getAttribute(name, "ActiveCount"));
+      assertEquals(0, server.getAttribute(name, "QueueDepth"));
+    }
+    finally {
+      executor.close();
+    }
+    assertFalse(server.isRegistered(name));
+  }
+}
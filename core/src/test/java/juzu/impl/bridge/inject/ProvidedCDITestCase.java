@@ -56,5 +56,10 @@ public class ProvidedCDITestCase extends AbstractWebTestCase {
     driver.get(applicationURL().toString());
     String page = driver.getPageSource();
     assertTrue("Was expecting to find 'pass' in " + page, page.contains("pass"));
+
+    // Render again with the beans resolved from the caching injection context
+    driver.get(applicationURL().toString());
+    page = driver.getPageSource();
+    assertTrue("Was expecting to find 'pass' in " + page, page.contains("pass"));
   }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.impl.bridge.portlet;
+
+import juzu.impl.common.Tools;
+import juzu.test.AbstractWebTestCase;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.drone.api.annotation.Drone;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.net.URL;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class CacheTestCase extends AbstractWebTestCase {
+
+  @Deployment(testable = false)
+  public static WebArchive createDeployment() {
+    URL portletXML = Thread.currentThread().getContextClassLoader().getResource("bridge/portlet/cache/portlet.xml");
+    return createPortletDeployment("bridge.portlet.cache", portletXML);
+  }
+
+  @Drone
+  WebDriver driver;
+
+  @Test
+  public void testExpirationAndValidation() throws Exception {
+    driver.get(getPortletURL().toString());
+    WebElement body = driver.findElement(By.tagName("body"));
+
+    // The markup is rendered once with the expiration cache and the validation token
+    assertEquals(1, Tools.count(body.getText(), "pass"));
+    assertEquals("60:v1:false", driver.findElement(By.id("render")).getText());
+
+    // With the same token the cached markup is used and the markup is not rendered again
+    assertEquals("60:v1:true", driver.findElement(By.id("validate")).getText());
+  }
+}
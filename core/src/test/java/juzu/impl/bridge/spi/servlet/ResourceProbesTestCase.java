@@ -0,0 +1,81 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.impl.bridge.spi.servlet;
+
+import juzu.test.AbstractTestCase;
+import org.junit.Test;
+
+import javax.servlet.ServletContext;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class ResourceProbesTestCase extends AbstractTestCase {
+
+  /** The paths looked up in the servlet context. */
+  private final List<String> lookups = new ArrayList<String>();
+
+  /** A servlet context with the single <code>/foo.css</code> resource. */
+  private final ServletContext context = (ServletContext)Proxy.newProxyInstance(
+      ServletContext.class.getClassLoader(),
+      new Class<?>[]{ServletContext.class},
+      new InvocationHandler() {
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+          if (method.getName().equals("getResource")) {
+            String path = (String)args[0];
+            lookups.add(path);
+            return path.equals("/foo.css") ? new URL("http://localhost/foo.css") : null;
+          }
+          throw new UnsupportedOperationException();
+        }
+      });
+
+  @Test
+  public void testHit() throws Exception {
+    ResourceProbes probes = new ResourceProbes(2);
+    assertTrue(probes.exists(context, "/foo.css"));
+    assertFalse(probes.exists(context, "/index"));
+    assertEquals(2, lookups.size());
+
+    // Existing and missing resources are both cached
+    assertTrue(probes.exists(context, "/foo.css"));
+    assertFalse(probes.exists(context, "/index"));
+    assertEquals(2, lookups.size());
+  }
+
+  @Test
+  public void testEviction() throws Exception {
+    ResourceProbes probes = new ResourceProbes(2);
+    probes.exists(context, "/a");
+    probes.exists(context, "/b");
+    probes.exists(context, "/a");
+    assertEquals(2, lookups.size());
+
+    // The cache is cleared when it is full
+    probes.exists(context, "/c");
+    assertEquals(3, lookups.size());
+    probes.exists(context, "/c");
+    assertEquals(3, lookups.size());
+    probes.exists(context, "/a");
+    assertEquals(4, lookups.size());
+    assertEquals("/a", lookups.get(3));
+  }
+}
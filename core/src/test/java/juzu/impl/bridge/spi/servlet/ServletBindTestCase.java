@@ -0,0 +1,85 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.impl.bridge.spi.servlet;
+
+import juzu.impl.bridge.DescriptorBuilder;
+import juzu.impl.common.Tools;
+import juzu.test.AbstractWebTestCase;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+
+import javax.servlet.ServletConfig;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class ServletBindTestCase extends AbstractWebTestCase {
+
+  /** The number of times the application was bound. */
+  static final AtomicInteger refreshes = new AtomicInteger();
+
+  /** Makes the next binding fail. */
+  static volatile boolean failing = true;
+
+  /**
+   * A servlet bridge counting the bindings of the application, the binding performed during the servlet
+   * initialization fails.
+   */
+  public static class BindServlet extends ServletBridge {
+
+    @Override
+    protected String getApplicationName(ServletConfig config) {
+      return "bridge.servlet.bind";
+    }
+
+    @Override
+    void refresh() throws Exception {
+      refreshes.incrementAndGet();
+      if (failing) {
+        failing = false;
+        throw new Exception("Binding failure");
+      }
+      super.refresh();
+    }
+  }
+
+  @Deployment(testable = false)
+  public static WebArchive createDeployment() {
+    return createServletDeployment(DescriptorBuilder.DEFAULT.
+        servletApp("bridge.servlet.bind").
+        servlet("BindServlet", "/bind/*", BindServlet.class.getName(), 1, null), true);
+  }
+
+  @Test
+  public void testBindOnce() throws Exception {
+
+    // The servlet initialization failed to bind the application
+    assertEquals(1, refreshes.get());
+    assertFalse(failing);
+
+    // The first request binds the application and the next requests don't
+    URL url = new URL(deploymentURL, "bind/");
+    for (int i = 0;i < 3;i++) {
+      HttpURLConnection conn = (HttpURLConnection)url.openConnection();
+      assertEquals(200, conn.getResponseCode());
+      assertTrue(Tools.read(conn.getInputStream()).contains("bound"));
+      assertEquals(2, refreshes.get());
+    }
+  }
+}
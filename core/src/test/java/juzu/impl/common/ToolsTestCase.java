@@ -242,6 +242,26 @@ public class ToolsTestCase extends AbstractTestCase {
     assertEquals(expectedMarkup, writer.toString());
   }
 
+  @Test
+  public void testEncodeHtmlText() throws Exception {
+    assertEncodeHtmlText("", "");
+    assertEncodeHtmlText("abc", "abc");
+    assertEncodeHtmlText("&lt;b&gt;", "<b>");
+    assertEncodeHtmlText("a &amp; b", "a & b");
+    assertEncodeHtmlText("&quot;&quot;", "\"\"");
+    assertEncodeHtmlText("caf&eacute; &euro;", "caf\u00E9 \u20AC");
+    assertEncodeHtmlText("\u4E2D\u6587", "\u4E2D\u6587");
+    StringBuilder sb = new StringBuilder();
+    Tools.encodeHtmlText("<a>b<c>", 1, 6, sb);
+    assertEquals("a&gt;b&lt;c", sb.toString());
+  }
+
+  private void assertEncodeHtmlText(String expected, String text) throws Exception {
+    StringBuilder sb = new StringBuilder();
+    Tools.encodeHtmlText(text, 0, text.length(), sb);
+    assertEquals(expected, sb.toString());
+  }
+
   @Test
   public void testInterpolate() {
     Map<String,String> context = Collections.singletonMap("foo", "bar");
@@ -21,12 +21,14 @@ import juzu.impl.fs.Visitor;
 import juzu.test.AbstractTestCase;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
 import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.junit.Test;
 
 import javax.inject.Inject;
 import javax.portlet.Portlet;
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URL;
 import java.util.HashSet;
@@ -37,7 +39,6 @@ import java.util.jar.JarFile;
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 public class JarFileSystemTestCase extends AbstractTestCase {
 
-
   @Test
   public void testMissing() throws Exception {
     URL url = Portlet.class.getProtectionDomain().getCodeSource().getLocation();
@@ -87,6 +88,59 @@ public class JarFileSystemTestCase extends AbstractTestCase {
     assertTrue(set4.containsAll(expectedSet4));
   }
 
+  @Test
+  public void testLocalFile() throws Exception {
+    File file = File.createTempFile("juzu", ".jar");
+    file.deleteOnExit();
+    ShrinkWrap.create(JavaArchive.class).
+        addAsResource(new StringAsset("foo"), "a/b.txt").
+        as(ZipExporter.class).
+        exportTo(file, true);
+    URL url = file.toURI().toURL();
+
+    //
+    JarFileSystem fs = new JarFileSystem(url);
+    assertEquals(Tools.set("a/b.txt"), Tools.set(fs.getChildren("a/")));
+    assertEquals("foo", fs.getResource("a/b.txt").getObject().getCharSequence(Tools.UTF_8).toString());
+    assertEquals(url.openConnection().getLastModified(), fs.getResource("a/b.txt").getTime());
+    try {
+      fs.getResource("a/c.txt");
+      fail();
+    }
+    catch (FileNotFoundException expected) {
+    }
+
+    // Modify the jar
+    ShrinkWrap.create(JavaArchive.class).
+        addAsResource(new StringAsset("bar"), "a/b.txt").
+        addAsResource(new StringAsset("juu"), "a/c.txt").
+        as(ZipExporter.class).
+        exportTo(file, true);
+    assertTrue(file.setLastModified(file.lastModified() + 2000));
+    fs = new JarFileSystem(url);
+    assertEquals(Tools.set("a/b.txt", "a/c.txt"), Tools.set(fs.getChildren("a/")));
+    assertEquals("bar", fs.getResource("a/b.txt").getObject().getCharSequence(Tools.UTF_8).toString());
+    assertEquals("juu", fs.getResource("a/c.txt").getObject().getCharSequence(Tools.UTF_8).toString());
+  }
+
+  @Test
+  public void testJarURL() throws Exception {
+    File file = File.createTempFile("juzu", ".jar");
+    file.deleteOnExit();
+    ShrinkWrap.create(JavaArchive.class).
+        addAsResource(new StringAsset("foo"), "a/b.txt").
+        as(ZipExporter.class).
+        exportTo(file, true);
+    URL url = new URL("jar:" + file.toURI().toURL() + "!/");
+
+    //
+    JarFileSystem fs = new JarFileSystem(url);
+    assertEquals(Tools.set("a/b.txt"), Tools.set(fs.getChildren("a/")));
+    assertEquals("foo", fs.getResource("a/b.txt").getObject().getCharSequence(Tools.UTF_8).toString());
+    assertEquals(file.lastModified(), fs.getResource("a/b.txt").getTime());
+    assertEquals("foo", Tools.read(fs.getURL("a/b.txt")));
+  }
+
 /*
   @Test
   public void testFoo() throws Exception {
@@ -33,6 +33,8 @@ import juzu.test.JavaFile;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.StreamCorruptedException;
 import java.util.Collections;
 import java.util.List;
 
@@ -48,7 +50,7 @@ public class ApplicationMetaModelTestCase extends AbstractTestCase {
 
     //
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    ModuleMetaModel mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    ModuleMetaModel mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
     List<MetaModelEvent> events = mm.getQueue().clear();
     assertEquals(1, events.size());
     assertEquals(MetaModelEvent.AFTER_ADD, events.get(0).getType());
@@ -73,10 +75,10 @@ public class ApplicationMetaModelTestCase extends AbstractTestCase {
 
     //
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    MetaModelState b = Tools.unserialize(MetaModelState.class, ser);
+    MetaModelState b = MetaModelState.read(ser);
     ModuleMetaModel mm = (ModuleMetaModel)b.metaModel;
     mm.getQueue().clear();
-    Tools.serialize(b, ser);
+    b.write(ser);
 
     //
     JavaFile pkgFile = helper.assertJavaSource("metamodel.application.package-info");
@@ -93,7 +95,7 @@ public class ApplicationMetaModelTestCase extends AbstractTestCase {
     //
     helper.assertCompile();
     ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     List<MetaModelEvent> events = mm.getQueue().clear();
@@ -113,6 +115,44 @@ public class ApplicationMetaModelTestCase extends AbstractTestCase {
     assertEquals(expected, mm.toJSON());
   }
 
+  @Test
+  public void testDiscard() throws Exception {
+    CompilerAssert<File, File> helper = incrementalCompiler("metamodel.application");
+    helper.assertCompile();
+
+    //
+    File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
+    MetaModelState state = MetaModelState.read(ser);
+    try {
+      MetaModelState.read(new FileInputStream(ser), Collections.singletonList("foo"));
+      fail();
+    }
+    catch (StreamCorruptedException expected) {
+    }
+
+    // Persist with the plain serialization format
+    Tools.serialize(state, ser);
+
+    //
+    JavaFile pkgFile = helper.assertJavaSource("metamodel.application.package-info");
+    PackageDeclaration pkg = pkgFile.assertPackage();
+    pkg.getAnnotations().clear();
+    List<AnnotationExpr> a = Collections.<AnnotationExpr>singletonList(new NormalAnnotationExpr(ASTHelper.createNameExpr(
+        Application.class.getName()),
+        Collections.<MemberValuePair>singletonList(new MemberValuePair(
+            "name", new StringLiteralExpr("abc")
+        ))));
+    pkg.setAnnotations(a);
+    pkgFile.assertSave();
+
+    // The model is discarded and created again
+    helper.assertCompile();
+    ModuleMetaModel mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
+    List<MetaModelEvent> events = mm.getQueue().clear();
+    assertEquals(1, events.size());
+    assertEquals(MetaModelEvent.AFTER_ADD, events.get(0).getType());
+  }
+
   @Test
   public void testRemove() throws Exception {
     CompilerAssert<File, File> helper = incrementalCompiler("metamodel.application");
@@ -120,10 +160,10 @@ public class ApplicationMetaModelTestCase extends AbstractTestCase {
 
     //
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    MetaModelState unserialize = Tools.unserialize(MetaModelState.class, ser);
+    MetaModelState unserialize = MetaModelState.read(ser);
     ModuleMetaModel mm = (ModuleMetaModel)unserialize.metaModel;
     mm.getQueue().clear();
-    Tools.serialize(unserialize, ser);
+    unserialize.write(ser);
 
     //
     assertTrue(helper.getSourcePath().getPath("metamodel", "application", "package-info.java").delete());
@@ -131,7 +171,7 @@ public class ApplicationMetaModelTestCase extends AbstractTestCase {
     //
     helper.assertCompile();
     ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     List<MetaModelEvent> events = mm.getQueue().clear();
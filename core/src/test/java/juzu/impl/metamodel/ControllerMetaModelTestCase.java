@@ -35,7 +35,6 @@ import juzu.impl.compiler.ElementHandle;
 import juzu.impl.plugin.controller.metamodel.ControllerMetaModel;
 import juzu.impl.plugin.controller.metamodel.ControllersMetaModel;
 import juzu.impl.common.JSON;
-import juzu.impl.common.Tools;
 import juzu.test.AbstractTestCase;
 import juzu.test.CompilerAssert;
 import juzu.test.JavaFile;
@@ -59,7 +58,7 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
 
     //
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    ModuleMetaModel mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    ModuleMetaModel mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     JSON expected = json()
@@ -99,17 +98,17 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
     CompilerAssert<File, File> helper = incrementalCompiler("metamodel.controller");
     helper.assertCompile();
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    MetaModelState unserialize = Tools.unserialize(MetaModelState.class, ser);
+    MetaModelState unserialize = MetaModelState.read(ser);
     ModuleMetaModel mm = (ModuleMetaModel)unserialize.metaModel;
     mm.getQueue().clear();
-    Tools.serialize(unserialize, ser);
+    unserialize.write(ser);
 
     //
     assertDelete(helper.getSourcePath().getPath("metamodel", "controller", "package-info.java"));
 
     //
     helper.assertCompile();
-    mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     JSON expected = json().
@@ -134,17 +133,17 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
     CompilerAssert<File, File> helper = incrementalCompiler("metamodel.controller");
     helper.assertCompile();
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    MetaModelState unserialize = Tools.unserialize(MetaModelState.class, ser);
+    MetaModelState unserialize = MetaModelState.read(ser);
     ModuleMetaModel mm = (ModuleMetaModel)unserialize.metaModel;
     mm.getQueue().clear();
-    Tools.serialize(unserialize, ser);
+    unserialize.write(ser);
 
     //
     assertDelete(helper.getSourcePath().getPath("metamodel", "controller", "A.java"));
 
     //
     helper.assertCompile();
-    mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     JSON expected = json()
@@ -171,10 +170,10 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
     CompilerAssert<File, File> helper = incrementalCompiler("metamodel.controller");
     helper.assertCompile();
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    MetaModelState unserialize = Tools.unserialize(MetaModelState.class, ser);
+    MetaModelState unserialize = MetaModelState.read(ser);
     ModuleMetaModel mm = (ModuleMetaModel)unserialize.metaModel;
     mm.getQueue().clear();
-    Tools.serialize(unserialize, ser);
+    unserialize.write(ser);
 
     //
     JavaFile file = helper.assertJavaSource("metamodel.controller.A");
@@ -185,7 +184,7 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
 
     //
     helper.assertCompile();
-    mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     JSON expected = json()
@@ -227,10 +226,10 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
     CompilerAssert<File, File> helper = incrementalCompiler("metamodel.controller");
     helper.assertCompile();
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    MetaModelState unserialize = Tools.unserialize(MetaModelState.class, ser);
+    MetaModelState unserialize = MetaModelState.read(ser);
     ModuleMetaModel mm = (ModuleMetaModel)unserialize.metaModel;
     mm.getQueue().clear();
-    Tools.serialize(unserialize, ser);
+    unserialize.write(ser);
 
     //
     JavaFile file = helper.assertJavaSource("metamodel.controller.A");
@@ -241,7 +240,7 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
 
     //
     helper.assertCompile();
-    mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     JSON expected = json()
@@ -275,13 +274,13 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
 
     //
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    MetaModelState unserialize = Tools.unserialize(MetaModelState.class, ser);
+    MetaModelState unserialize = MetaModelState.read(ser);
     ModuleMetaModel mm = (ModuleMetaModel)unserialize.metaModel;
     List<MetaModelEvent> events = mm.getQueue().clear();
     assertEquals(1, events.size());
     assertEquals(MetaModelEvent.AFTER_ADD, events.get(0).getType());
     assertTrue(events.get(0).getObject() instanceof ApplicationMetaModel);
-    Tools.serialize(unserialize, ser);
+    unserialize.write(ser);
 
     //
     a.getMembers().add(decl);
@@ -289,7 +288,7 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
     helper.assertCompile();
 
     //
-    mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     JSON expected = json()
@@ -327,10 +326,10 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
     CompilerAssert<File, File> helper = incrementalCompiler("metamodel.controller");
     helper.assertCompile();
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    MetaModelState unserialize = Tools.unserialize(MetaModelState.class, ser);
+    MetaModelState unserialize = MetaModelState.read(ser);
     ModuleMetaModel mm = (ModuleMetaModel)unserialize.metaModel;
     mm.getQueue().clear();
-    Tools.serialize(unserialize, ser);
+    unserialize.write(ser);
 
     //
     JavaFile file = helper.assertJavaSource("metamodel.controller.A");
@@ -340,7 +339,7 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
 
     //
     helper.assertCompile();
-    mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     JSON expected = json()
@@ -378,16 +377,16 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
 
     //
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    MetaModelState unserialize = Tools.unserialize(MetaModelState.class, ser);
+    MetaModelState unserialize = MetaModelState.read(ser);
     ModuleMetaModel mm = (ModuleMetaModel)unserialize.metaModel;
     mm.getQueue().clear();
-    Tools.serialize(unserialize, ser);
+    unserialize.write(ser);
 
     //
     assertTrue(a.getMembers().remove(show));
     file.assertSave();
     helper.assertCompile();
-    mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     JSON expected = json()
@@ -433,10 +432,10 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
 
     //
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    MetaModelState unserialize = Tools.unserialize(MetaModelState.class, ser);
+    MetaModelState unserialize = MetaModelState.read(ser);
     ModuleMetaModel mm = (ModuleMetaModel)unserialize.metaModel;
     mm.getQueue().clear();
-    Tools.serialize(unserialize, ser);
+    unserialize.write(ser);
 
     //
     assertTrue(a.getMembers().remove(index));
@@ -444,7 +443,7 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
 
     //
     helper.assertCompile();
-    mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     JSON expected = json()
@@ -482,10 +481,10 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
 
     //
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    MetaModelState unserialize = Tools.unserialize(MetaModelState.class, ser);
+    MetaModelState unserialize = MetaModelState.read(ser);
     ModuleMetaModel mm = (ModuleMetaModel)unserialize.metaModel;
     mm.getQueue().clear();
-    Tools.serialize(unserialize, ser);
+    unserialize.write(ser);
 
     //
     File file = helper.getSourcePath().getPath("metamodel", "controller", "A.java");
@@ -499,7 +498,7 @@ public class ControllerMetaModelTestCase extends AbstractTestCase {
 
     //
     helper.assertCompile();
-    mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     List<MetaModelEvent> events = mm.getQueue().clear();
@@ -23,7 +23,6 @@ import japa.parser.ast.body.Parameter;
 import japa.parser.ast.expr.AnnotationExpr;
 import juzu.impl.plugin.module.metamodel.ModuleMetaModel;
 import juzu.impl.common.JSON;
-import juzu.impl.common.Tools;
 import juzu.test.AbstractTestCase;
 import juzu.test.CompilerAssert;
 import juzu.test.JavaFile;
@@ -67,7 +66,7 @@ public class ParamMetaModelTestCase extends AbstractTestCase {
 
     //
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    ModuleMetaModel mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    ModuleMetaModel mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
     assertEquals(expectedJSON, mm.toJSON());
   }
 
@@ -105,7 +104,7 @@ public class ParamMetaModelTestCase extends AbstractTestCase {
 
     // Check
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    ModuleMetaModel mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    ModuleMetaModel mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
     assertEquals(expectedJSON, mm.toJSON());
   }
 }
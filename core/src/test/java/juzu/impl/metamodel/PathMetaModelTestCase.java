@@ -38,7 +38,7 @@ public class PathMetaModelTestCase extends AbstractTestCase {
 
     //
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    ModuleMetaModel mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    ModuleMetaModel mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     JSON expected = json()
@@ -70,7 +70,7 @@ public class PathMetaModelTestCase extends AbstractTestCase {
     //
     helper.assertCompile();
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    ModuleMetaModel mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    ModuleMetaModel mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     JSON expected = json()
@@ -99,7 +99,7 @@ public class PathMetaModelTestCase extends AbstractTestCase {
     //
     helper.assertCompile();
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    ModuleMetaModel mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    ModuleMetaModel mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     JSON expected = json()
@@ -124,7 +124,7 @@ public class PathMetaModelTestCase extends AbstractTestCase {
     //
     helper.assertCompile();
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    ModuleMetaModel mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    ModuleMetaModel mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     JSON expected = json().
@@ -143,10 +143,10 @@ public class PathMetaModelTestCase extends AbstractTestCase {
 
     //
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    MetaModelState unserialize = Tools.unserialize(MetaModelState.class, ser);
+    MetaModelState unserialize = MetaModelState.read(ser);
     ModuleMetaModel mm = (ModuleMetaModel)unserialize.metaModel;
     mm.getQueue().clear();
-    Tools.serialize(unserialize, ser);
+    unserialize.write(ser);
 
     //
     File pkg = helper.getSourcePath().getPath("metamodel", "path", "package-info.java");
@@ -161,7 +161,7 @@ public class PathMetaModelTestCase extends AbstractTestCase {
     //
     helper.assertCompile();
     ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    mm = (ModuleMetaModel)Tools.unserialize(MetaModelState.class, ser).metaModel;
+    mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
 
     //
     JSON expected = json()
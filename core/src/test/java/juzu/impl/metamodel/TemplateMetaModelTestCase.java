@@ -20,11 +20,14 @@ import japa.parser.ast.body.ClassOrInterfaceDeclaration;
 import japa.parser.ast.body.FieldDeclaration;
 import juzu.impl.common.Path;
 import juzu.impl.compiler.ElementHandle;
+import juzu.impl.plugin.application.metamodel.ApplicationMetaModel;
 import juzu.impl.plugin.module.metamodel.ModuleMetaModel;
 import juzu.impl.common.Tools;
 import juzu.impl.plugin.template.metamodel.ElementMetaModel;
+import juzu.impl.plugin.template.metamodel.TemplateContainerMetaModel;
 import juzu.impl.plugin.template.metamodel.TemplateMetaModel;
 import juzu.impl.plugin.template.metamodel.TemplateMetaModelPlugin;
+import juzu.impl.template.spi.TemplateModel;
 import juzu.test.AbstractTestCase;
 import juzu.test.CompilerAssert;
 import juzu.test.JavaFile;
@@ -75,6 +78,58 @@ public class TemplateMetaModelTestCase extends AbstractTestCase {
     helper.failCompile();
   }
 
+  @Test
+  public void testUnchanged() throws Exception {
+    CompilerAssert<File, File> helper = compiler("metamodel.template");
+    File index = helper.getSourcePath().getPath("metamodel", "template", "templates", "index.gtmpl");
+    helper.assertCompile();
+    File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
+    long lastModified = getTemplateModel(ser, "/metamodel/template/templates/index.gtmpl").getLastModified();
+
+    // Touch the template, the template model is kept
+    assertTrue(index.setLastModified(index.lastModified() + 1000));
+    helper.assertCompile();
+    assertEquals(lastModified, getTemplateModel(ser, "/metamodel/template/templates/index.gtmpl").getLastModified());
+
+    // Modify the template, the template is processed again
+    Tools.write("foo", index);
+    assertTrue(index.setLastModified(index.lastModified() + 2000));
+    helper.assertCompile();
+    assertEquals(index.lastModified(), getTemplateModel(ser, "/metamodel/template/templates/index.gtmpl").getLastModified());
+  }
+
+  @Test
+  public void testTagChanged() throws Exception {
+    CompilerAssert<File, File> helper = compiler("plugin.template.tag.simple.body");
+    File foo = helper.getSourcePath().getPath("plugin", "template", "tag", "simple", "body", "tags", "foo.gtmpl");
+    helper.assertCompile();
+    File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
+    Long digest = getTemplateModel(ser, "/plugin/template/tag/simple/body/templates/index.gtmpl").getTagDigest("foo");
+    assertNotNull(digest);
+
+    // Touch the tag, the digest of the tag used by the template is unchanged
+    assertTrue(foo.setLastModified(foo.lastModified() + 1000));
+    helper.assertCompile();
+    assertEquals(digest, getTemplateModel(ser, "/plugin/template/tag/simple/body/templates/index.gtmpl").getTagDigest("foo"));
+
+    // Modify the tag, the template using it is processed again
+    Tools.write("<bar>#{insert/}</bar>", foo);
+    assertTrue(foo.setLastModified(foo.lastModified() + 2000));
+    helper.assertCompile();
+    Long modified = getTemplateModel(ser, "/plugin/template/tag/simple/body/templates/index.gtmpl").getTagDigest("foo");
+    assertNotNull(modified);
+    assertFalse(digest.equals(modified));
+  }
+
+  private TemplateModel<?> getTemplateModel(File ser, String path) throws Exception {
+    ModuleMetaModel mm = (ModuleMetaModel)MetaModelState.read(ser).metaModel;
+    ApplicationMetaModel application = mm.getChildren(ApplicationMetaModel.class).iterator().next();
+    TemplateContainerMetaModel templates = application.getChild(TemplateContainerMetaModel.KEY);
+    TemplateMetaModel template = templates.get((Path.Absolute)Path.parse(path));
+    assertNotNull(template);
+    return template.getTemplateModel();
+  }
+
   @Test
   public void testRemoveAnnotation() throws Exception {
     CompilerAssert<File, File> helper = compiler("metamodel.template");
@@ -89,16 +144,16 @@ public class TemplateMetaModelTestCase extends AbstractTestCase {
 
     //
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    MetaModelState unserialize = Tools.unserialize(MetaModelState.class, ser);
+    MetaModelState unserialize = MetaModelState.read(ser);
     ModuleMetaModel mm = (ModuleMetaModel)unserialize.metaModel;
     mm.getQueue().clear();
-    Tools.serialize(unserialize, ser);
+    unserialize.write(ser);
 
     //
     helper.assertCompile();
 
     //
-    unserialize = Tools.unserialize(MetaModelState.class, ser);
+    unserialize = MetaModelState.read(ser);
     mm = (ModuleMetaModel)unserialize.metaModel;
     List<MetaModelEvent> events = mm.getQueue().clear();
     assertEquals(1, events.size());
@@ -116,10 +171,10 @@ public class TemplateMetaModelTestCase extends AbstractTestCase {
 
     //
     File ser = helper.getSourceOutput().getPath("juzu", "metamodel.ser");
-    MetaModelState unserialize = Tools.unserialize(MetaModelState.class, ser);
+    MetaModelState unserialize = MetaModelState.read(ser);
     ModuleMetaModel mm = (ModuleMetaModel)unserialize.metaModel;
     List<MetaModelEvent> events = mm.getQueue().clear();
-    Tools.serialize(unserialize, ser);
+    unserialize.write(ser);
 
     //
     assertEquals(2, events.size());
@@ -138,10 +193,10 @@ public class TemplateMetaModelTestCase extends AbstractTestCase {
 
     // Compile
     helper.assertCompile();
-    unserialize = Tools.unserialize(MetaModelState.class, ser);
+    unserialize = MetaModelState.read(ser);
     mm = (ModuleMetaModel)unserialize.metaModel;
     events = mm.getQueue().clear();
-    Tools.serialize(unserialize, ser);
+    unserialize.write(ser);
 
     //
     assertEquals(1, events.size());
@@ -160,7 +215,7 @@ public class TemplateMetaModelTestCase extends AbstractTestCase {
 
     // Compile
     helper.assertCompile();
-    unserialize = Tools.unserialize(MetaModelState.class, ser);
+    unserialize = MetaModelState.read(ser);
     mm = (ModuleMetaModel)unserialize.metaModel;
     events = mm.getQueue().clear();
 
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.impl.plugin.ajax;
+
+import juzu.impl.inject.spi.InjectorProvider;
+import juzu.test.AbstractInjectTestCase;
+import juzu.test.protocol.mock.MockApplication;
+import juzu.test.protocol.mock.MockClient;
+import org.junit.Test;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class AjaxScopeTestCase extends AbstractInjectTestCase {
+
+  public AjaxScopeTestCase(InjectorProvider di) {
+    super(di);
+  }
+
+  @Test
+  public void testScope() throws Exception {
+    MockApplication<?> app = application("plugin.ajaxscope").init();
+    MockClient client = app.client();
+
+    //
+    String a = client.render("A.index").assertStringResponse();
+    assertTrue(a.contains("data-method-id=\"A.global\""));
+    assertTrue(a.contains("data-method-id=\"A.local\""));
+    assertFalse(a.contains("data-method-id=\"B.local\""));
+
+    //
+    String b = client.render("B.index").assertStringResponse();
+    assertTrue(b.contains("data-method-id=\"A.global\""));
+    assertFalse(b.contains("data-method-id=\"A.local\""));
+    assertTrue(b.contains("data-method-id=\"B.local\""));
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.impl.plugin.ajax;
+
+import juzu.test.AbstractTestCase;
+import org.junit.Test;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class MarkupCacheTestCase extends AbstractTestCase {
+
+  @Test
+  public void testHit() throws Exception {
+    MarkupCache cache = new MarkupCache(2);
+    assertNull(cache.get("http://localhost/a"));
+    cache.put("http://localhost/a", "<div>a</div>");
+    assertEquals("<div>a</div>", cache.get("http://localhost/a"));
+    assertNull(cache.get("http://localhost/b"));
+  }
+
+  @Test
+  public void testEviction() throws Exception {
+    MarkupCache cache = new MarkupCache(2);
+    cache.put("a", "<div>a</div>");
+    cache.put("b", "<div>b</div>");
+    assertEquals("<div>a</div>", cache.get("a"));
+
+    // The least recently used markup is evicted
+    cache.put("c", "<div>c</div>");
+    assertEquals("<div>a</div>", cache.get("a"));
+    assertNull(cache.get("b"));
+    assertEquals("<div>c</div>", cache.get("c"));
+  }
+}
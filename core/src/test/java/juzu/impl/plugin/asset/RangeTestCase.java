@@ -0,0 +1,116 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.impl.plugin.asset;
+
+import juzu.test.AbstractWebTestCase;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.util.EntityUtils;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.drone.api.annotation.Drone;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class RangeTestCase extends AbstractWebTestCase {
+
+  @Deployment(testable = false)
+  public static WebArchive createDeployment() {
+    return createServletDeployment(true, "plugin.asset.etag");
+  }
+
+  @Drone
+  WebDriver driver;
+
+  private HttpResponse get(String uri, String range, String ifRange) throws Exception {
+    HttpClient client = HttpClientBuilder.create().build();
+    HttpGet get = new HttpGet(uri);
+    if (range != null) {
+      get.setHeader("Range", range);
+    }
+    if (ifRange != null) {
+      get.setHeader("If-Range", ifRange);
+    }
+    return client.execute(get);
+  }
+
+  @Test
+  public void testRange() throws Exception {
+    driver.get(applicationURL().toString());
+    String assetURI = driver.findElement(By.tagName("script")).getAttribute("src");
+    assertNotNull(assetURI);
+
+    // Full
+    HttpResponse response = get(assetURI, null, null);
+    assertEquals(200, response.getStatusLine().getStatusCode());
+    assertEquals("bytes", response.getFirstHeader("Accept-Ranges").getValue());
+    assertEquals("a = 0;", EntityUtils.toString(response.getEntity()));
+    String etag = response.getFirstHeader("ETag").getValue();
+    String lastModified = response.getFirstHeader("Last-Modified").getValue();
+
+    // Single range
+    response = get(assetURI, "bytes=2-4", null);
+    assertEquals(206, response.getStatusLine().getStatusCode());
+    assertEquals("bytes 2-4/6", response.getFirstHeader("Content-Range").getValue());
+    assertEquals("= 0", EntityUtils.toString(response.getEntity()));
+
+    // Suffix and open ranges
+    response = get(assetURI, "bytes=-2", null);
+    assertEquals(206, response.getStatusLine().getStatusCode());
+    assertEquals("0;", EntityUtils.toString(response.getEntity()));
+    response = get(assetURI, "bytes=4-", null);
+    assertEquals(206, response.getStatusLine().getStatusCode());
+    assertEquals("0;", EntityUtils.toString(response.getEntity()));
+
+    // Multiple ranges
+    response = get(assetURI, "bytes=4-5,0-0", null);
+    assertEquals(206, response.getStatusLine().getStatusCode());
+    String contentType = response.getFirstHeader("Content-Type").getValue();
+    assertTrue(contentType.startsWith("multipart/byteranges; boundary="));
+    String boundary = contentType.substring("multipart/byteranges; boundary=".length());
+    String body = EntityUtils.toString(response.getEntity());
+    assertTrue(body.contains("Content-Range: bytes 4-5/6\r\n\r\n0;\r\n--" + boundary));
+    assertTrue(body.contains("Content-Range: bytes 0-0/6\r\n\r\na\r\n--" + boundary + "--"));
+    assertTrue(body.indexOf("bytes 4-5/6") < body.indexOf("bytes 0-0/6"));
+
+    // Unsatisfiable
+    response = get(assetURI, "bytes=10-", null);
+    assertEquals(416, response.getStatusLine().getStatusCode());
+    assertEquals("bytes */6", response.getFirstHeader("Content-Range").getValue());
+    EntityUtils.consume(response.getEntity());
+
+    // Invalid range is ignored
+    response = get(assetURI, "bytes=4-2", null);
+    assertEquals(200, response.getStatusLine().getStatusCode());
+    assertEquals("a = 0;", EntityUtils.toString(response.getEntity()));
+
+    // If-Range
+    response = get(assetURI, "bytes=0-0", etag);
+    assertEquals(206, response.getStatusLine().getStatusCode());
+    assertEquals("a", EntityUtils.toString(response.getEntity()));
+    response = get(assetURI, "bytes=0-0", lastModified);
+    assertEquals(206, response.getStatusLine().getStatusCode());
+    assertEquals("a", EntityUtils.toString(response.getEntity()));
+    response = get(assetURI, "bytes=0-0", "foo");
+    assertEquals(200, response.getStatusLine().getStatusCode());
+    assertEquals("a = 0;", EntityUtils.toString(response.getEntity()));
+  }
+}
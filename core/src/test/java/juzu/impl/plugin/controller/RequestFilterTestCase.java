@@ -16,9 +16,13 @@
 
 package juzu.impl.plugin.controller;
 
+import juzu.impl.common.Resource;
 import juzu.impl.common.Tools;
+import juzu.impl.fs.spi.ReadWriteFileSystem;
 import juzu.impl.inject.spi.InjectorProvider;
 import juzu.impl.request.RequestFilter;
+import juzu.impl.request.StageMonitor;
+import juzu.impl.request.monitor.JMXStageMonitor;
 import juzu.test.AbstractInjectTestCase;
 import juzu.test.Registry;
 import juzu.test.protocol.mock.MockApplication;
@@ -26,6 +30,12 @@ import juzu.test.protocol.mock.MockClient;
 import juzu.test.protocol.mock.MockViewBridge;
 import org.junit.Test;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
@@ -46,6 +56,62 @@ public class RequestFilterTestCase extends AbstractInjectTestCase {
     assertEquals("after", Registry.get("request.filter.lifecycle"));
   }
 
+  @Test
+  public void testMonitor() throws Exception {
+    MockApplication<?> app = monitor(application("plugin.controller.requestfilter.lifecycle")).init();
+    MockClient client = app.client();
+    client.render();
+    JMXStageMonitor monitor = (JMXStageMonitor)((ControllerService)app.getContext().getPlugin("controller")).getMonitor();
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    String prefix = "juzu:application=" + ObjectName.quote("plugin.controller.requestfilter.lifecycle") + ",instance=" + monitor.getInstance() + ",handler=" + ObjectName.quote("plugin.controller.requestfilter.lifecycle.A#index()");
+    ObjectName invokeName = new ObjectName(prefix + ",stage=" + ObjectName.quote("Invoke"));
+    assertTrue(server.isRegistered(invokeName));
+    assertTrue(server.isRegistered(new ObjectName(prefix + ",stage=" + ObjectName.quote("Handler"))));
+    ObjectName filterName = new ObjectName(prefix + ",stage=" + ObjectName.quote("Handler") + ",filter=" + ObjectName.quote("plugin.controller.requestfilter.lifecycle.LifeCycleFilter"));
+    assertTrue(server.isRegistered(filterName));
+    assertEquals(1L, server.getAttribute(filterName, "Count"));
+
+    // Closing the application unregisters its histograms
+    app.close();
+    assertFalse(server.isRegistered(invokeName));
+    assertFalse(server.isRegistered(filterName));
+  }
+
+  @Test
+  public void testMonitorRendering() throws Exception {
+    MockApplication<?> app = monitor(application("plugin.controller.requestfilter.monitor")).init();
+    MockClient client = app.client();
+    assertEquals("hello", client.render().assertStringResponse());
+    JMXStageMonitor monitor = (JMXStageMonitor)((ControllerService)app.getContext().getPlugin("controller")).getMonitor();
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    String prefix = "juzu:application=" + ObjectName.quote("plugin.controller.requestfilter.monitor") + ",instance=" + monitor.getInstance() + ",handler=" + ObjectName.quote("plugin.controller.requestfilter.monitor.A#index()");
+    ObjectName templateName = new ObjectName(prefix + ",template=" + ObjectName.quote("/plugin/controller/requestfilter/monitor/templates/index.gtmpl"));
+    assertTrue(server.isRegistered(templateName));
+    assertEquals(1L, server.getAttribute(templateName, "Count"));
+    assertTrue(server.isRegistered(new ObjectName(prefix + ",stage=" + ObjectName.quote("Invoke"))));
+    app.close();
+    assertFalse(server.isRegistered(templateName));
+  }
+
+  @Test
+  public void testNoMonitor() throws Exception {
+    MockApplication<?> app = application("plugin.controller.requestfilter.lifecycle").init();
+    assertNull(((ControllerService)app.getContext().getPlugin("controller")).getMonitor());
+  }
+
+  /**
+   * Declare the {@link JMXStageMonitor} service in the class output of the application so only this application
+   * is monitored.
+   */
+  private MockApplication<File> monitor(MockApplication<File> app) throws IOException {
+    app.assertCompile();
+    ReadWriteFileSystem<File> classes = app.getCompiler().getClassOutput();
+    File services = classes.makePath(Arrays.asList("META-INF", "services"));
+    classes.createDir(services);
+    classes.updateResource(classes.makePath(services, StageMonitor.class.getName()), new Resource(JMXStageMonitor.class.getName()));
+    return app;
+  }
+
   @Test
   public void testFailure() throws Exception {
     MockApplication<?> app = application("plugin.controller.requestfilter.failure").init();
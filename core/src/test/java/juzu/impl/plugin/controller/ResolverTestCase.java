@@ -26,6 +26,7 @@ import juzu.test.CompilerAssert;
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.List;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 public class ResolverTestCase extends AbstractTestCase {
@@ -220,4 +221,31 @@ public class ResolverTestCase extends AbstractTestCase {
     handler = resolver.resolve((String)null, "fooArg", Collections.<String>singleton("bar"));
     assertNull(handler);
   }
+
+  @Test
+  public void testConsumers() throws Exception {
+    CompilerAssert<?, ?> compiler = compiler("plugin.controller.resolver.consumer");
+    compiler.assertCompile();
+    Class<?> appClass = compiler.assertClass("plugin.controller.resolver.consumer.Application");
+    ApplicationDescriptor desc = ApplicationDescriptor.create(appClass);
+    ControllersDescriptor controllerDesc = new ControllersDescriptor(desc);
+
+    //
+    List<ControllerHandler> consumers = controllerDesc.getConsumers("foo");
+    assertEquals(1, consumers.size());
+    assertEquals("foo", consumers.get(0).getName());
+
+    //
+    consumers = controllerDesc.getConsumers("bar");
+    assertEquals(2, consumers.size());
+    assertEquals(Tools.set("bar1", "bar2"), Tools.set(consumers.get(0).getName(), consumers.get(1).getName()));
+
+    //
+    consumers = controllerDesc.getConsumers("");
+    assertEquals(1, consumers.size());
+    assertEquals("any", consumers.get(0).getName());
+
+    //
+    assertEquals(Collections.<ControllerHandler>emptyList(), controllerDesc.getConsumers("juu"));
+  }
 }
@@ -39,4 +39,14 @@ public class ELTestCase extends AbstractInjectTestCase {
     MockViewBridge render = client.render();
     assertEquals("A", render.assertStringResponse());
   }
+
+  @Test
+  public void testResolveAttribute() throws Exception {
+    MockApplication<?> app = application("plugin.template.elattribute").init();
+
+    //
+    MockClient client = app.client();
+    MockViewBridge render = client.render();
+    assertEquals("attribute", render.assertStringResponse());
+  }
 }
@@ -22,6 +22,7 @@ import juzu.impl.compiler.ProcessingContext;
 import juzu.impl.inject.spi.InjectorProvider;
 import juzu.impl.plugin.template.metamodel.TemplateMetaModel;
 import juzu.impl.tags.DecorateTag;
+import juzu.impl.tags.InsertTag;
 import juzu.impl.template.spi.EmitContext;
 import juzu.impl.template.spi.SimpleProcessContext;
 import juzu.impl.template.spi.juzu.ast.ASTNode;
@@ -30,7 +31,11 @@ import juzu.impl.template.spi.juzu.compiler.ProcessPhase;
 import juzu.impl.template.spi.TemplateModel;
 import juzu.impl.plugin.template.metadata.TemplateDescriptor;
 import juzu.impl.common.Path;
+import juzu.io.UndeclaredIOException;
+import juzu.template.Renderable;
 import juzu.template.TagHandler;
+import juzu.template.TemplateExecutionException;
+import juzu.template.TemplateRenderContext;
 import juzu.test.AbstractInjectTestCase;
 import juzu.test.CompilerAssert;
 import juzu.test.protocol.mock.MockApplication;
@@ -46,6 +51,7 @@ import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 public class TagTestCase extends AbstractInjectTestCase {
@@ -76,6 +82,38 @@ public class TagTestCase extends AbstractInjectTestCase {
     assertEquals("<juu><foo>bar</foo></juu>", out);
   }
 
+  @Test
+  public void testInsertOnAnotherThread() throws Exception {
+    final AtomicReference<Thread> rendered = new AtomicReference<Thread>();
+    Renderable decorated = new Renderable() {
+      public void render(TemplateRenderContext context) throws TemplateExecutionException, UndeclaredIOException {
+        rendered.set(Thread.currentThread());
+      }
+    };
+    final Renderable inserted = new Renderable() {
+      public void render(TemplateRenderContext context) throws TemplateExecutionException, UndeclaredIOException {
+      }
+    };
+    final TemplateRenderContext context = new TemplateRenderContext(null);
+    context.pushBody(decorated);
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        try {
+          new InsertTag().render(context, inserted, null);
+        }
+        catch (IOException e) {
+          throw new UndeclaredIOException(e);
+        }
+      }
+    };
+    thread.start();
+    thread.join();
+    assertSame(thread, rendered.get());
+    assertSame(inserted, context.popBody());
+    assertNull(context.popBody());
+  }
+
   @Test
   public void testDecorateExternal() throws Exception {
     CompilerAssert<File, File> simpleHelper = compiler("plugin.template.tag.decorate");
@@ -131,6 +131,16 @@ public class TemplateTestCase extends AbstractInjectTestCase {
     assertEquals("(the_key_en,)", client.render().assertStringResponse());
   }
 
+  @Test
+  public void testMessageLocales() throws Exception {
+    MockApplication<?> app = application("plugin.template.messagelocale").init();
+    app.addMessage(Locale.ENGLISH, "the_key", "the_key_en");
+    app.addMessage(Locale.FRENCH, "the_key", "the_key_fr");
+    MockClient client = app.client();
+    assertEquals("(the_key_en,)(the_key_fr,)(the_key_en,)", client.render().assertStringResponse());
+    assertEquals("(the_key_en,)(the_key_fr,)(the_key_en,)", client.render().assertStringResponse());
+  }
+
   @Test
   public void testPrecompileGroovy() throws Exception {
     MockApplication<File> app = application("plugin.template.simple").init();
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package juzu.impl.request.monitor;
+
+import juzu.test.AbstractTestCase;
+import org.junit.Test;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class HistogramTestCase extends AbstractTestCase {
+
+  @Test
+  public void testRecord() {
+    Histogram histogram = new Histogram();
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMedianTime());
+    for (int i = 0;i < 98;i++) {
+      histogram.record(3000);
+    }
+    histogram.record(100000);
+    histogram.record(1000000);
+    assertEquals(100, histogram.getCount());
+    assertEquals(98 * 3 + 100 + 1000, histogram.getTotalTime());
+    assertEquals(13, histogram.getMeanTime());
+    assertEquals(1000, histogram.getMaxTime());
+    assertEquals(4, histogram.getMedianTime());
+    assertEquals(4, histogram.get90thPercentileTime());
+    assertEquals(128, histogram.get99thPercentileTime());
+    assertEquals(1000, histogram.getPercentile(100));
+    histogram.reset();
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMaxTime());
+  }
+}
@@ -32,8 +32,10 @@ import java.text.DateFormat;
 import java.util.Date;
 import java.util.EmptyStackException;
 import java.util.HashMap;
+import java.util.ListResourceBundle;
 import java.util.Locale;
 import java.util.Map;
+import java.util.ResourceBundle;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 public class TemplateRenderingTestCase extends AbstractTemplateTestCase {
@@ -124,6 +126,37 @@ public class TemplateRenderingTestCase extends AbstractTemplateTestCase {
     assertEquals("MessageKey[a]", render);
   }
 
+  @Test
+  public void testMessageTable() throws Exception {
+    GroovyTemplateStub template = template("&{a}");
+    assertEquals("a1", renderMessage(template, Locale.ENGLISH, "a1"));
+
+    // The message table of the locale is reused although the bundle is a different instance
+    assertEquals("a1", renderMessage(template, Locale.ENGLISH, "a2"));
+
+    // Another locale builds its own table
+    assertEquals("a3", renderMessage(template, Locale.FRENCH, "a3"));
+  }
+
+  private String renderMessage(GroovyTemplateStub template, Locale locale, final String message) throws Exception {
+    TemplateRenderContext renderContext = new TemplateRenderContext(template, null, null, locale) {
+      @Override
+      public ResourceBundle resolveBundle() {
+        return new ListResourceBundle() {
+          @Override
+          protected Object[][] getContents() {
+            return new Object[][]{{"a", message}};
+          }
+        };
+      }
+    };
+    StringWriter writer = new StringWriter();
+    OutputStream out = OutputStream.create(Tools.UTF_8, writer);
+    renderContext.render(out);
+    out.close(null);
+    return writer.toString();
+  }
+
   @Test
   public void testLineBreak() throws Exception {
     String template = "\n";
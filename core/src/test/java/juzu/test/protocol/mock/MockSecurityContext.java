@@ -19,6 +19,7 @@ package juzu.test.protocol.mock;
 import juzu.request.SecurityContext;
 
 import java.security.Principal;
+import java.util.HashMap;
 
 /** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
 public class MockSecurityContext implements SecurityContext {
@@ -26,6 +27,9 @@ public class MockSecurityContext implements SecurityContext {
   /** . */
   private final MockClient client;
 
+  /** The number of times each role was checked during the request. */
+  private final HashMap<String, Integer> checks = new HashMap<String, Integer>();
+
   public MockSecurityContext(MockClient client) {
     this.client = client;
   }
@@ -39,7 +43,13 @@ public class MockSecurityContext implements SecurityContext {
   }
 
   public boolean isUserInRole(String role) {
+    checks.put(role, getChecks(role) + 1);
     return client.roles.contains(role);
   }
 
+  public int getChecks(String role) {
+    Integer count = checks.get(role);
+    return count != null ? count : 0;
+  }
+
 }
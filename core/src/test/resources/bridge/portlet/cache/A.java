@@ -0,0 +1,39 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package bridge.portlet.cache;
+
+import juzu.Response;
+import juzu.View;
+import juzu.bridge.portlet.ExpirationCache;
+import juzu.bridge.portlet.JuzuPortlet;
+import juzu.request.RequestContext;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class A {
+
+  /** . */
+  static final String ETAG = "v1";
+
+  @View
+  @ExpirationCache(60)
+  public Response.Status index(RequestContext context) {
+    if (ETAG.equals(context.getProperty(JuzuPortlet.ETAG))) {
+      return Response.ok().with(JuzuPortlet.ETAG, ETAG);
+    } else {
+      return Response.ok("pass").with(JuzuPortlet.ETAG, ETAG);
+    }
+  }
+}
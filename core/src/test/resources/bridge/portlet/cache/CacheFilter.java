@@ -0,0 +1,84 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package bridge.portlet.cache;
+
+import javax.portlet.CacheControl;
+import javax.portlet.PortletException;
+import javax.portlet.RenderRequest;
+import javax.portlet.RenderResponse;
+import javax.portlet.filter.FilterChain;
+import javax.portlet.filter.FilterConfig;
+import javax.portlet.filter.RenderFilter;
+import javax.portlet.filter.RenderRequestWrapper;
+import javax.portlet.filter.RenderResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+/**
+ * Plays the role of a validating portal : the portlet is rendered a first time and then a second time
+ * with the validation token it provided, the cache control of each render is reported after the markup.
+ *
+ * @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a>
+ */
+public class CacheFilter implements RenderFilter {
+
+  public void init(FilterConfig filterConfig) throws PortletException {
+  }
+
+  public void doFilter(RenderRequest request, RenderResponse response, FilterChain chain) throws IOException, PortletException {
+    CacheControl cacheControl = response.getCacheControl();
+    PrintWriter writer = response.getWriter();
+    String etag = null;
+    for (String id : new String[]{"render", "validate"}) {
+      cacheControl.setExpirationTime(0);
+      cacheControl.setETag(null);
+      cacheControl.setUseCachedContent(false);
+      StringWriter markup = render(request, response, chain, etag);
+      etag = cacheControl.getETag();
+      writer.print(markup);
+      writer.print("<div id=\"" + id + "\">");
+      writer.print(cacheControl.getExpirationTime() + ":" + etag + ":" + cacheControl.useCachedContent());
+      writer.print("</div>");
+    }
+
+    // The portal must use the markup of the filter
+    cacheControl.setExpirationTime(0);
+    cacheControl.setUseCachedContent(false);
+  }
+
+  private StringWriter render(RenderRequest request, RenderResponse response, FilterChain chain, final String etag) throws IOException, PortletException {
+    final StringWriter markup = new StringWriter();
+    chain.doFilter(
+        new RenderRequestWrapper(request) {
+          @Override
+          public String getETag() {
+            return etag;
+          }
+        },
+        new RenderResponseWrapper(response) {
+          @Override
+          public PrintWriter getWriter() throws IOException {
+            return new PrintWriter(markup);
+          }
+        }
+    );
+    return markup;
+  }
+
+  public void destroy() {
+  }
+}
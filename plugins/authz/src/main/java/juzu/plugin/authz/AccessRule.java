@@ -0,0 +1,67 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package juzu.plugin.authz;
+
+import javax.annotation.security.DenyAll;
+import javax.annotation.security.PermitAll;
+import javax.annotation.security.RolesAllowed;
+import java.lang.reflect.Method;
+
+/**
+ * The access rule of a controller handler computed from its security annotations.
+ *
+ * @author Julien Viet
+ */
+final class AccessRule {
+
+  /** . */
+  static final AccessRule PERMIT = new AccessRule(null);
+
+  /** . */
+  static final AccessRule DENY = new AccessRule(new String[0]);
+
+  static AccessRule create(Method method) {
+
+    // Search for annotation on the method
+    RolesAllowed rolesAllowed = method.getAnnotation(RolesAllowed.class);
+    PermitAll permitAll = method.getAnnotation(PermitAll.class);
+    DenyAll denyAll = method.getAnnotation(DenyAll.class);
+
+    // Look at parent if nothing found at method level
+    if (rolesAllowed == null && permitAll == null && denyAll == null) {
+      Class<?> controllerClass = method.getDeclaringClass();
+      rolesAllowed = controllerClass.getAnnotation(RolesAllowed.class);
+      denyAll = controllerClass.getAnnotation(DenyAll.class);
+    }
+
+    //
+    if (denyAll != null) {
+      return DENY;
+    } else if (rolesAllowed != null) {
+      String[] roles = rolesAllowed.value();
+      return roles.length == 0 ? DENY : new AccessRule(roles);
+    } else {
+      return PERMIT;
+    }
+  }
+
+  /** The allowed roles checked in declaration order, null when access is permitted to everyone. */
+  final String[] roles;
+
+  private AccessRule(String[] roles) {
+    this.roles = roles;
+  }
+}
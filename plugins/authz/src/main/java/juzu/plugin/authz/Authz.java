@@ -0,0 +1,53 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package juzu.plugin.authz;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the authorization plugin for an application package.
+ *
+ * @author Julien Viet
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PACKAGE)
+public @interface Authz {
+
+  /**
+   * Controls how the results of {@link juzu.request.SecurityContext#isUserInRole(String)} are memoized.
+   */
+  enum RoleCache {
+
+    /** Roles are checked on each invocation. */
+    NONE,
+
+    /** Roles are checked at most once per request. */
+    REQUEST,
+
+    /** Roles are checked at most once per session and user. */
+    SESSION
+
+  }
+
+  /**
+   * @return the role memoization mode
+   */
+  RoleCache roleCache() default RoleCache.NONE;
+
+}
@@ -16,21 +16,47 @@
 package juzu.plugin.authz;
 
 import juzu.Response;
+import juzu.Scope;
+import juzu.impl.inject.Scoped;
+import juzu.impl.plugin.controller.ControllerService;
+import juzu.impl.request.ControllerHandler;
 import juzu.impl.request.Request;
 import juzu.impl.request.RequestFilter;
 import juzu.impl.request.Stage;
 import juzu.request.SecurityContext;
 
-import javax.annotation.security.DenyAll;
-import javax.annotation.security.PermitAll;
-import javax.annotation.security.RolesAllowed;
-import java.lang.reflect.Method;
+import javax.inject.Inject;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Julien Viet
  */
 public class AuthzManager implements RequestFilter<Stage.Handler> {
 
+  /** The key of the memoized roles in the request or session scope. */
+  private static final String ROLES_KEY = AuthzManager.class.getName() + ".roles";
+
+  /** The access rules computed once for each handler of the application. */
+  private final Map<ControllerHandler<?>, AccessRule> rules;
+
+  /** . */
+  private final Scope roleCache;
+
+  @Inject
+  public AuthzManager(ControllerService controllerService, AuthzService authzService) {
+    HashMap<ControllerHandler<?>, AccessRule> rules = new HashMap<ControllerHandler<?>, AccessRule>();
+    for (ControllerHandler<?> handler : controllerService.getDescriptor().getHandlers()) {
+      rules.put(handler, AccessRule.create(handler.getMethod()));
+    }
+
+    //
+    this.rules = rules;
+    this.roleCache = authzService.getRoleCache();
+  }
+
   @Override
   public Class<Stage.Handler> getStageType() {
     return Stage.Handler.class;
@@ -39,34 +65,28 @@ public class AuthzManager implements RequestFilter<Stage.Handler> {
   @Override
   public Response handle(Stage.Handler argument) {
     Request request = argument.getRequest();
-
-    // Search for annotation on the method
-    Method method = request.getHandler().getMethod();
-    RolesAllowed rolesAllowed = method.getAnnotation(RolesAllowed.class);
-    PermitAll permitAll = method.getAnnotation(PermitAll.class);
-    DenyAll denyAll = method.getAnnotation(DenyAll.class);
-
-    // Look at parent if nothing found at method level
-    if (rolesAllowed == null && permitAll == null && denyAll == null) {
-      Class<?> controllerClass = method.getDeclaringClass();
-      rolesAllowed = controllerClass.getAnnotation(RolesAllowed.class);
-      denyAll = controllerClass.getAnnotation(DenyAll.class);
+    ControllerHandler<?> handler = request.getHandler();
+    AccessRule rule = rules.get(handler);
+    if (rule == null) {
+      rule = AccessRule.create(handler.getMethod());
     }
 
     //
-    boolean ok = false;
-    if (denyAll != null) {
+    boolean ok;
+    if (rule == AccessRule.PERMIT) {
+      ok = true;
+    } else if (rule == AccessRule.DENY) {
+      ok = false;
+    } else {
       ok = false;
-    } else if (rolesAllowed != null) {
       SecurityContext securityContext = request.getSecurityContext();
-      for (String role : rolesAllowed.value()) {
-        if (securityContext.isUserInRole(role)) {
+      Roles memoized = getRoles(request, securityContext);
+      for (String role : rule.roles) {
+        if (memoized != null ? memoized.isUserInRole(securityContext, role) : securityContext.isUserInRole(role)) {
           ok = true;
           break;
         }
       }
-    } else {
-      ok = true;
     }
 
     //
@@ -76,4 +96,50 @@ public class AuthzManager implements RequestFilter<Stage.Handler> {
       return argument.invoke();
     }
   }
+
+  private Roles getRoles(Request request, SecurityContext securityContext) {
+    if (roleCache != null && request.getScopeController().isActive(roleCache)) {
+      String user = securityContext.getRemoteUser();
+      Scoped scoped = request.getScopeController().get(roleCache, ROLES_KEY);
+      Roles roles = scoped != null ? (Roles)scoped.get() : null;
+      if (roles == null || !(user == null ? roles.user == null : user.equals(roles.user))) {
+        request.getScopeController().put(roleCache, ROLES_KEY, roles = new Roles(user));
+      }
+      return roles;
+    } else {
+      return null;
+    }
+  }
+
+  /**
+   * The memoized role checks of a user.
+   */
+  private static class Roles implements Scoped, Serializable {
+
+    /** . */
+    private final String user;
+
+    /** . */
+    private final ConcurrentHashMap<String, Boolean> checks = new ConcurrentHashMap<String, Boolean>();
+
+    private Roles(String user) {
+      this.user = user;
+    }
+
+    boolean isUserInRole(SecurityContext securityContext, String role) {
+      Boolean granted = checks.get(role);
+      if (granted == null) {
+        checks.put(role, granted = securityContext.isUserInRole(role));
+      }
+      return granted;
+    }
+
+    public Object get() {
+      return this;
+    }
+
+    public void destroy() {
+      checks.clear();
+    }
+  }
 }
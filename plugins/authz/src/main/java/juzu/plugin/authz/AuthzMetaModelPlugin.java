@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package juzu.plugin.authz;
+
+import juzu.impl.common.JSON;
+import juzu.impl.compiler.ElementHandle;
+import juzu.impl.compiler.ProcessingContext;
+import juzu.impl.metamodel.AnnotationKey;
+import juzu.impl.metamodel.AnnotationState;
+import juzu.impl.plugin.application.metamodel.ApplicationMetaModel;
+import juzu.impl.plugin.application.metamodel.ApplicationMetaModelPlugin;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Set;
+
+/**
+ * Collects the {@link Authz} configuration of an application package at compilation time.
+ *
+ * @author Julien Viet
+ */
+public class AuthzMetaModelPlugin extends ApplicationMetaModelPlugin {
+
+  /** . */
+  private final HashMap<ElementHandle.Package, JSON> configs = new HashMap<ElementHandle.Package, JSON>();
+
+  public AuthzMetaModelPlugin() {
+    super("authz");
+  }
+
+  @Override
+  public Set<Class<? extends Annotation>> init(ProcessingContext env) {
+    return Collections.<Class<? extends Annotation>>singleton(Authz.class);
+  }
+
+  @Override
+  public void processAnnotationAdded(ApplicationMetaModel metaModel, AnnotationKey key, AnnotationState added) {
+    JSON config = new JSON();
+    String roleCache = (String)added.get("roleCache");
+    if (roleCache != null) {
+      config.set("roleCache", roleCache);
+    }
+    configs.put(metaModel.getHandle(), config);
+  }
+
+  @Override
+  public void processAnnotationRemoved(ApplicationMetaModel metaModel, AnnotationKey key, AnnotationState removed) {
+    configs.remove(metaModel.getHandle());
+  }
+
+  @Override
+  public void destroy(ApplicationMetaModel application) {
+    configs.remove(application.getHandle());
+  }
+
+  @Override
+  public JSON getDescriptor(ApplicationMetaModel application) {
+    return configs.get(application.getHandle());
+  }
+}
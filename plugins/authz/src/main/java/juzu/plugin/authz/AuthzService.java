@@ -16,6 +16,7 @@
 package juzu.plugin.authz;
 
 import juzu.Scope;
+import juzu.impl.common.JSON;
 import juzu.impl.inject.BeanDescriptor;
 import juzu.impl.plugin.ServiceContext;
 import juzu.impl.plugin.ServiceDescriptor;
@@ -29,12 +30,33 @@ import java.util.Collections;
  */
 public class AuthzService extends ApplicationService {
 
+  /** The scope memoizing the role checks or null when they are not memoized. */
+  private Scope roleCache;
+
   public AuthzService() {
     super("authz");
   }
 
+  Scope getRoleCache() {
+    return roleCache;
+  }
+
   @Override
   public ServiceDescriptor init(ServiceContext context) throws Exception {
+    JSON config = context.getConfig();
+    String roleCache = config != null ? config.getString("roleCache") : null;
+    if (roleCache != null) {
+      switch (Authz.RoleCache.valueOf(roleCache)) {
+        case REQUEST:
+          this.roleCache = Scope.REQUEST;
+          break;
+        case SESSION:
+          this.roleCache = Scope.SESSION;
+          break;
+      }
+    }
+
+    //
     return new ServiceDescriptor(Collections.singleton(BeanDescriptor.createFromBean(
         AuthzManager.class,
         Scope.SINGLETON,
@@ -68,6 +68,36 @@ public class AuthorizationTestCase extends AbstractTestCase {
     assertPermitAll("juzu.controller.permitall");
   }
 
+  @Test
+  public void testRequestRoleCache() throws Exception {
+    MockApplication<?> application = application(InjectorProvider.GUICE, "juzu.rolecache.request");
+    application.init();
+    MockClient client = application.client();
+    MockViewBridge view1 = client.render();
+    assertInstanceOf(Response.Error.Forbidden.class, view1.assertError());
+    assertEquals(1, view1.getSecurityContext().getChecks("foo"));
+    assertEquals(1, view1.getSecurityContext().getChecks("bar"));
+    client.addRole("foo");
+    MockViewBridge view2 = client.render();
+    view2.assertOk();
+    assertEquals(1, view2.getSecurityContext().getChecks("foo"));
+  }
+
+  @Test
+  public void testSessionRoleCache() throws Exception {
+    MockApplication<?> application = application(InjectorProvider.GUICE, "juzu.rolecache.session");
+    application.init();
+    MockClient client = application.client();
+    MockViewBridge view1 = client.render();
+    assertInstanceOf(Response.Error.Forbidden.class, view1.assertError());
+    client.addRole("foo");
+    MockViewBridge view2 = client.render();
+    assertInstanceOf(Response.Error.Forbidden.class, view2.assertError());
+    client.invalidate();
+    MockViewBridge view3 = client.render();
+    view3.assertOk();
+  }
+
   private void assertRolesAllowed(String packageName) throws Exception {
     MockApplication<?> application = application(InjectorProvider.GUICE, packageName);
     application.init();
@@ -15,10 +15,12 @@
  */
 package juzu.plugin.closurecompiler;
 
+import com.google.javascript.jscomp.CompilationLevel;
 import com.google.javascript.jscomp.CompilerOptions;
 import com.google.javascript.jscomp.JSError;
 import com.google.javascript.jscomp.Result;
 import com.google.javascript.jscomp.SourceFile;
+import juzu.impl.common.Tools;
 import juzu.plugin.asset.Minifier;
 
 import com.google.javascript.jscomp.Compiler;
@@ -28,33 +30,111 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.UnsupportedCharsetException;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
+ * A minifier based on the Closure Compiler, the default minifier uses the default options of the compiler. The
+ * {@link WhitespaceOnlyClosureMinifier} and {@link SimpleClosureMinifier} subclasses use a compilation level of the
+ * compiler. The charset of the scripts is configured by the {@link #CHARSET} system property of the compiler, it
+ * defaults to UTF-8.
+ *
  * @author Julien Viet
  */
 public class ClosureMinifier implements Minifier {
 
+  /** The system property configuring the charset of the scripts. */
+  public static final String CHARSET = "juzu.closurecompiler.charset";
+
+  /** The maximum number of minified scripts retained. */
+  private static final int MAX_SIZE = 64;
+
+  /** Minified scripts keyed by the digest of their source and the compiler settings. */
+  private static final Map<String, byte[]> cache = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+      return size() > MAX_SIZE;
+    }
+  };
+
+  /** The compilation level or null for the compiler defaults. */
+  private final CompilationLevel level;
+
+  /** The charset of the scripts. */
+  private final Charset charset;
+
+  public ClosureMinifier() {
+    this(null);
+  }
+
+  /**
+   * Create a minifier using the charset configured by the {@link #CHARSET} system property.
+   *
+   * @param level the compilation level or null for the compiler defaults
+   * @throws UnsupportedCharsetException when the configured charset is not supported
+   */
+  protected ClosureMinifier(CompilationLevel level) throws UnsupportedCharsetException {
+    this(level, getCharset());
+  }
+
+  /**
+   * Create a minifier.
+   *
+   * @param level the compilation level or null for the compiler defaults
+   * @param charset the charset for reading and writing the scripts
+   */
+  protected ClosureMinifier(CompilationLevel level, Charset charset) {
+    this.level = level;
+    this.charset = charset;
+  }
+
+  private static Charset getCharset() throws UnsupportedCharsetException {
+    String name = System.getProperty(CHARSET);
+    return name != null ? Charset.forName(name) : Tools.UTF_8;
+  }
+
   @Override
   public InputStream minify(String name, String type, InputStream stream) throws IOException {
     if (type.equals("script")) {
-      Compiler compiler = new Compiler();
-      CompilerOptions options = new CompilerOptions();
-      SourceFile source = SourceFile.fromInputStream(name, stream);
-      Result result = compiler.compile(Collections.<SourceFile>emptyList(), Collections.singletonList(source), options);
-      if (result.errors.length > 0) {
-        StringWriter buffer = new StringWriter();
-        PrintWriter writer = new PrintWriter(buffer);
-        writer.println("Malformed asset:");
-        for (JSError error : result.errors) {
-          writer.println(error);
+      byte[] bytes = Tools.bytes(stream);
+      String key = Tools.md5(bytes) + ":" + bytes.length + ":" + level + ":" + charset.name();
+      byte[] minified;
+      synchronized (cache) {
+        minified = cache.get(key);
+      }
+      if (minified == null) {
+        minified = compile(name, new String(bytes, charset));
+        synchronized (cache) {
+          cache.put(key, minified);
         }
-        throw new IOException(buffer.toString());
       }
-      String s = compiler.toSource();
-      return new ByteArrayInputStream(s.getBytes());
+      return new ByteArrayInputStream(minified);
     } else {
       throw new IOException("Can only process scripts and not " + type + " asset");
     }
   }
+
+  private byte[] compile(String name, String code) throws IOException {
+    Compiler compiler = new Compiler();
+    CompilerOptions options = new CompilerOptions();
+    if (level != null) {
+      level.setOptionsForCompilationLevel(options);
+    }
+    options.setOutputCharset(charset.name());
+    SourceFile source = SourceFile.fromCode(name, code);
+    Result result = compiler.compile(Collections.<SourceFile>emptyList(), Collections.singletonList(source), options);
+    if (result.errors.length > 0) {
+      StringWriter buffer = new StringWriter();
+      PrintWriter writer = new PrintWriter(buffer);
+      writer.println("Malformed asset:");
+      for (JSError error : result.errors) {
+        writer.println(error);
+      }
+      throw new IOException(buffer.toString());
+    }
+    return compiler.toSource().getBytes(charset);
+  }
 }
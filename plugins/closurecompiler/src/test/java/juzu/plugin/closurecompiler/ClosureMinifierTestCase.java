@@ -0,0 +1,72 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.plugin.closurecompiler;
+
+import juzu.impl.common.Tools;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class ClosureMinifierTestCase {
+
+  private static String minify(ClosureMinifier minifier, String code) throws IOException {
+    return Tools.read(minifier.minify("test.js", "script", new ByteArrayInputStream(code.getBytes(Tools.UTF_8))));
+  }
+
+  @Test
+  public void testLevels() throws Exception {
+    String code = "var a = 1 + 2;";
+    Assert.assertEquals("var a=1+2;", minify(new WhitespaceOnlyClosureMinifier(), code));
+    Assert.assertEquals("var a=3;", minify(new SimpleClosureMinifier(), code));
+  }
+
+  @Test
+  public void testReuse() throws Exception {
+    String code = "var b = 2 * 3;";
+    Assert.assertEquals("var b=6;", minify(new SimpleClosureMinifier(), code));
+    Assert.assertEquals("var b=6;", minify(new SimpleClosureMinifier(), code));
+    Assert.assertEquals("var b=2*3;", minify(new WhitespaceOnlyClosureMinifier(), code));
+  }
+
+  @Test
+  public void testCharset() throws Exception {
+    ClosureMinifier minifier;
+    System.setProperty(ClosureMinifier.CHARSET, "ISO-8859-1");
+    try {
+      minifier = new ClosureMinifier();
+    }
+    finally {
+      System.clearProperty(ClosureMinifier.CHARSET);
+    }
+    byte[] code = "var d = '\u00e9';".getBytes(Tools.ISO_8859_1);
+    String minified = new String(Tools.bytes(minifier.minify("test.js", "script", new ByteArrayInputStream(code))), Tools.ISO_8859_1);
+    Assert.assertEquals("var d=\"\u00e9\";", minified);
+  }
+
+  @Test
+  public void testFailure() throws Exception {
+    try {
+      minify(new SimpleClosureMinifier(), "var c = ;");
+      Assert.fail();
+    }
+    catch (IOException expected) {
+    }
+  }
+}
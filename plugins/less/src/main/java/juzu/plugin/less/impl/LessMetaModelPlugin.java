@@ -34,6 +34,7 @@ import juzu.plugin.less.Less;
 import juzu.plugin.less.impl.lesser.Compilation;
 import juzu.plugin.less.impl.lesser.Failure;
 import juzu.plugin.less.impl.lesser.JSContext;
+import juzu.plugin.less.impl.lesser.LessContext;
 import juzu.plugin.less.impl.lesser.LessError;
 import juzu.plugin.less.impl.lesser.Lesser;
 import juzu.plugin.less.impl.lesser.Result;
@@ -43,10 +44,12 @@ import javax.lang.model.element.PackageElement;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 import java.io.IOException;
+import java.io.Serializable;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -69,6 +72,12 @@ public class LessMetaModelPlugin extends ModuleMetaModelPlugin {
   /** . */
   private HashMap<Name, AnnotationState> annotations;
 
+  /** The digests of the compiled resources keyed by destination, kept with the meta model between compilations. */
+  private HashMap<String, Digest> digests;
+
+  /** The less compiler, it is created once and shared by the resources. */
+  private transient Lesser lesser;
+
   public LessMetaModelPlugin() {
     super("less");
   }
@@ -76,6 +85,7 @@ public class LessMetaModelPlugin extends ModuleMetaModelPlugin {
   @Override
   public void init(ModuleMetaModel metaModel) {
     annotations = new HashMap<Name, AnnotationState>();
+    digests = new HashMap<String, Digest>();
   }
 
   @Override
@@ -104,6 +114,10 @@ public class LessMetaModelPlugin extends ModuleMetaModelPlugin {
 
   @Override
   public void prePassivate(ModuleMetaModel metaModel) {
+    if (digests == null) {
+      digests = new HashMap<String, Digest>();
+    }
+
     // First clear annotation map
     HashMap<Name, AnnotationState> clone = annotations;
     annotations = null;
@@ -131,7 +145,7 @@ public class LessMetaModelPlugin extends ModuleMetaModelPlugin {
         Name assetPkg = pkg.append("assets");
 
         //
-        CompilerLessContext clc = new CompilerLessContext(env, pkgHandle, assetPkg);
+        final CompilerLessContext clc = new CompilerLessContext(env, pkgHandle, assetPkg);
 
         //
         for (String resource : resources) {
@@ -150,12 +164,31 @@ public class LessMetaModelPlugin extends ModuleMetaModelPlugin {
           Path.Absolute to = assetPkg.resolve(path.as("css"));
           log.info("Resource " + resource + " destination resolved to " + to);
 
+          // Skip the resource when it and its imports did not change since the previous compilation
+          String key = to.getCanonical();
+          Digest digest = digests.get(key);
+          if (digest != null && digest.isUpToDate(clc, Boolean.TRUE.equals(minify)) && env.getResource(StandardLocation.CLASS_OUTPUT, to.getDirs(), to.getSimpleName()) != null) {
+            log.info("Resource " + resource + " unchanged since previous compilation");
+            continue;
+          }
+
+          //
+          final LinkedHashMap<String, String> loaded = new LinkedHashMap<String, String>();
+          LessContext context = new LessContext() {
+            public String load(String ref) {
+              String content = clc.load(ref);
+              loaded.put(ref, content);
+              return content;
+            }
+          };
+
           //
-          Lesser lesser;
           Result result;
           try {
-            lesser = new Lesser(JSContext.create());
-            result = lesser.compile(clc, resource, Boolean.TRUE.equals(minify));
+            if (lesser == null) {
+              lesser = new Lesser(JSContext.create());
+            }
+            result = lesser.compile(context, resource, Boolean.TRUE.equals(minify));
           }
           catch (Exception e) {
             log.info("Unexpected exception", e);
@@ -164,6 +197,8 @@ public class LessMetaModelPlugin extends ModuleMetaModelPlugin {
 
           //
           if (result instanceof Compilation) {
+            String[] refs = loaded.keySet().toArray(new String[loaded.size()]);
+            digests.put(key, new Digest(refs, digest(loaded), Boolean.TRUE.equals(minify)));
             try {
               log.info("Resource " + resource + " compiled about to write on disk as " + to);
               Compilation compilation = (Compilation)result;
@@ -181,6 +216,7 @@ public class LessMetaModelPlugin extends ModuleMetaModelPlugin {
             }
           }
           else {
+            digests.remove(key);
             Failure failure = (Failure)result;
             LinkedList<LessError> errors = failure.getErrors();
             ArrayList<Message> messages = new ArrayList<Message>(errors.size());
@@ -209,4 +245,48 @@ public class LessMetaModelPlugin extends ModuleMetaModelPlugin {
       }
     }
   }
+
+  private static long digest(Map<String, String> loaded) {
+    StringBuilder sb = new StringBuilder();
+    for (Map.Entry<String, String> entry : loaded.entrySet()) {
+      sb.append(entry.getKey()).append('\0');
+      if (entry.getValue() != null) {
+        sb.append('+').append(entry.getValue());
+      }
+      sb.append('\0');
+    }
+    return Tools.md5(sb.toString().getBytes(Tools.UTF_8));
+  }
+
+  /**
+   * The digest of a compiled resource: the references loaded by the compilation and the md5 of their content.
+   */
+  static class Digest implements Serializable {
+
+    /** . */
+    final String[] refs;
+
+    /** . */
+    final long md5;
+
+    /** . */
+    final boolean minify;
+
+    Digest(String[] refs, long md5, boolean minify) {
+      this.refs = refs;
+      this.md5 = md5;
+      this.minify = minify;
+    }
+
+    boolean isUpToDate(LessContext context, boolean minify) {
+      if (this.minify != minify) {
+        return false;
+      }
+      LinkedHashMap<String, String> loaded = new LinkedHashMap<String, String>();
+      for (String ref : refs) {
+        loaded.put(ref, context.load(ref));
+      }
+      return md5 == digest(loaded);
+    }
+  }
 }
@@ -41,6 +41,29 @@ public class LessPluginTestCase extends AbstractTestCase {
     assertTrue(f.exists());
   }
 
+  @Test
+  public void testUnchanged() throws Exception {
+    CompilerAssert<File, File> ca = incrementalCompiler("plugin.less.unchanged");
+    ca.assertCompile();
+    File a = ca.getClassOutput().getPath("plugin", "less", "unchanged", "assets", "a.css");
+    assertTrue(a.setLastModified(1000));
+
+    // Add a resource, the unchanged resource is not compiled again
+    File pkg = ca.getSourcePath().getPath("plugin", "less", "unchanged", "package-info.java");
+    String content = Tools.read(pkg);
+    Tools.write(content.replace("@Less(\"a.less\")", "@Less({\"a.less\",\"b.less\"})"), pkg);
+    ca.assertCompile();
+    assertEquals(1000, a.lastModified());
+    assertNotNull(ca.getClassOutput().getPath("plugin", "less", "unchanged", "assets", "b.css"));
+
+    // Modify the resource
+    File less = ca.getSourcePath().getPath("plugin", "less", "unchanged", "assets", "a.less");
+    Tools.write("a { width: 2+2 }", less);
+    Tools.write(content.replace("@Less(\"a.less\")", "@Less({\"b.less\",\"a.less\"})"), pkg);
+    ca.assertCompile();
+    assertTrue(Tools.read(a).contains("4"));
+  }
+
   @Test
   public void testFail() throws Exception {
     CompilerAssert<File, File> ca = compiler("plugin.less.fail");
@@ -20,6 +20,7 @@ import com.github.sommeri.less4j.LessCompiler;
 import com.github.sommeri.less4j.LessSource;
 import com.github.sommeri.less4j.core.ThreadUnsafeLessCompiler;
 import juzu.asset.AssetLocation;
+import juzu.impl.common.Tools;
 import juzu.impl.compiler.Message;
 import juzu.impl.compiler.ProcessingException;
 import juzu.impl.plugin.asset.Asset;
@@ -27,15 +28,40 @@ import juzu.impl.plugin.asset.Asset;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 import java.net.URLConnection;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Julien Viet
  */
 public class LessAsset extends Asset {
 
+  /** The maximum number of compiled stylesheets kept by the cache. */
+  private static final int CACHE_SIZE = 64;
+
+  /** The compiled stylesheets keyed by source URL, it survives the builds done by the same compiler process. */
+  private static final LinkedHashMap<String, Compiled> cache = new LinkedHashMap<String, Compiled>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Compiled> eldest) {
+      return size() > CACHE_SIZE;
+    }
+  };
+
+  /** The number of stylesheet compilations, the cache hits are not counted. */
+  private static final AtomicInteger compilations = new AtomicInteger();
+
+  /**
+   * @return the number of stylesheets compiled since the class was loaded
+   */
+  static int getCompilations() {
+    return compilations.get();
+  }
+
   private static String cssValue(String lessValue) {
     int pos = lessValue.lastIndexOf('.');
     if (pos == -1) {
@@ -66,10 +92,26 @@ public class LessAsset extends Asset {
 
   @Override
   public InputStream open(String s, URLConnection resource) throws IOException {
+    URL url = resource.getURL();
+    String key = url.toString();
+    Compiled compiled;
+    synchronized (cache) {
+      compiled = cache.get(key);
+    }
+    if (compiled != null && compiled.isUpToDate()) {
+      MetaModelPluginImpl.log.info("Stylesheet " + key + " unchanged since previous compilation");
+      return new ByteArrayInputStream(compiled.css);
+    }
     LessCompiler compiler = new ThreadUnsafeLessCompiler();
     try {
-      LessCompiler.CompilationResult result = compiler.compile(resource.getURL());
-      return new ByteArrayInputStream(result.getCss().getBytes());
+      LinkedHashMap<URL, Long> digests = new LinkedHashMap<URL, Long>();
+      LessCompiler.CompilationResult result = compiler.compile(new Source(url, digests));
+      compilations.incrementAndGet();
+      compiled = new Compiled(digests, result.getCss().getBytes());
+      synchronized (cache) {
+        cache.put(key, compiled);
+      }
+      return new ByteArrayInputStream(compiled.css);
     }
     catch (Less4jException e) {
       List<LessCompiler.Problem> errors = e.getErrors();
@@ -90,4 +132,85 @@ public class LessAsset extends Asset {
       throw new ProcessingException(messages);
     }
   }
+
+  /**
+   * A compiled stylesheet along with the digests of the sources it was compiled from.
+   */
+  private static class Compiled {
+
+    /** . */
+    final Map<URL, Long> digests;
+
+    /** . */
+    final byte[] css;
+
+    Compiled(Map<URL, Long> digests, byte[] css) {
+      this.digests = digests;
+      this.css = css;
+    }
+
+    boolean isUpToDate() {
+      for (Map.Entry<URL, Long> digest : digests.entrySet()) {
+        try {
+          if (Tools.md5(Tools.bytes(digest.getKey())) != digest.getValue()) {
+            return false;
+          }
+        }
+        catch (IOException e) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * A source recording the digest of the sources read by the compiler: the stylesheet and its imports.
+   */
+  private static class Source extends LessSource.URLSource {
+
+    /** . */
+    private final Map<URL, Long> digests;
+
+    Source(URL url, Map<URL, Long> digests) {
+      super(url);
+      this.digests = digests;
+    }
+
+    Source(Source parent, String filename) throws FileNotFound, CannotReadFile {
+      super(parent, filename);
+      this.digests = parent.digests;
+    }
+
+    @Override
+    public LessSource relativeSource(String filename) throws FileNotFound, CannotReadFile {
+      return new Source(this, filename);
+    }
+
+    @Override
+    public String getContent() throws FileNotFound, CannotReadFile {
+      String content = super.getContent();
+      record();
+      return content;
+    }
+
+    @Override
+    public byte[] getBytes() throws FileNotFound, CannotReadFile {
+      byte[] bytes = super.getBytes();
+      record();
+      return bytes;
+    }
+
+    private void record() throws CannotReadFile {
+      URL url = getInputURL();
+      if (!digests.containsKey(url)) {
+        try {
+          digests.put(url, Tools.md5(Tools.bytes(url)));
+        }
+        catch (IOException e) {
+          throw new CannotReadFile();
+        }
+      }
+    }
+  }
 }
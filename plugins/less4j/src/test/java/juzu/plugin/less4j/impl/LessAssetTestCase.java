@@ -0,0 +1,55 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package juzu.plugin.less4j.impl;
+
+import juzu.impl.common.Tools;
+import juzu.test.AbstractTestCase;
+import juzu.test.CompilerAssert;
+import org.junit.Test;
+
+import java.io.File;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class LessAssetTestCase extends AbstractTestCase {
+
+  @Test
+  public void testImportChanged() throws Exception {
+    CompilerAssert<File, File> ca = incrementalCompiler("plugin.less4j.resolve");
+    ca.assertCompile();
+    File f = ca.getClassOutput().getPath("plugin", "less4j", "resolve", "assets", "stylesheet.css");
+    assertTrue(Tools.read(f).contains("2"));
+
+    // Recompile with an unchanged stylesheet
+    File pkg = ca.getSourcePath().getPath("plugin", "less4j", "resolve", "package-info.java");
+    String content = Tools.read(pkg);
+    assertTrue(f.setLastModified(0));
+    Tools.write(content + "// 1", pkg);
+    int compilations = LessAsset.getCompilations();
+    ca.assertCompile();
+    assertTrue(Tools.read(f).contains("2"));
+    assertEquals(compilations, LessAsset.getCompilations());
+
+    // Modify the imported stylesheet
+    File imported = ca.getSourcePath().getPath("plugin", "less4j", "resolve", "assets", "folder", "stylesheet.less");
+    Tools.write("a { with: 2+2 }", imported);
+    assertTrue(f.setLastModified(0));
+    Tools.write(content + "// 2", pkg);
+    ca.assertCompile();
+    assertTrue(Tools.read(f).contains("4"));
+    assertEquals(compilations + 1, LessAsset.getCompilations());
+  }
+}
@@ -34,5 +34,13 @@ public @interface Shiro {
 
   boolean rememberMe() default false;
 
+  /**
+   * The time to live in milliseconds of the role and permission decisions cached for a principal, the
+   * default value disables the cache.
+   *
+   * @return the decision cache time to live
+   */
+  int decisionCacheTTL() default 0;
+
   Realm[] realms() default {};
 }
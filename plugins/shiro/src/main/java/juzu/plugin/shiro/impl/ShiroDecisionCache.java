@@ -0,0 +1,126 @@
+/*
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package juzu.plugin.shiro.impl;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.shiro.subject.Subject;
+
+/**
+ * A short lived cache of role and permission decisions keyed by the subject principal, it avoids to query the
+ * realms repeatedly when the same user performs a burst of requests.
+ *
+ * @author <a href="mailto:haithanh0809@gmail.com">Nguyen Thanh Hai</a>
+ * @version $Id$
+ * 
+ */
+public class ShiroDecisionCache {
+
+  /** The number of principals above which expired entries are purged. */
+  private static final int PURGE_THRESHOLD = 256;
+
+  /** . */
+  private final long ttl;
+
+  /** . */
+  private final ConcurrentHashMap<Object, Entry> entries;
+
+  public ShiroDecisionCache(long ttl) {
+    if (ttl <= 0) {
+      throw new IllegalArgumentException("Invalid time to live " + ttl);
+    }
+    this.ttl = ttl;
+    this.entries = new ConcurrentHashMap<Object, Entry>();
+  }
+
+  public boolean hasRole(Subject subject, String role) {
+    Entry entry = getEntry(subject);
+    if (entry == null) {
+      return subject.hasRole(role);
+    }
+    Boolean granted = entry.roles.get(role);
+    if (granted == null) {
+      entry.roles.put(role, granted = subject.hasRole(role));
+    }
+    return granted;
+  }
+
+  public boolean isPermitted(Subject subject, String permission) {
+    Entry entry = getEntry(subject);
+    if (entry == null) {
+      return subject.isPermitted(permission);
+    }
+    Boolean granted = entry.permissions.get(permission);
+    if (granted == null) {
+      entry.permissions.put(permission, granted = subject.isPermitted(permission));
+    }
+    return granted;
+  }
+
+  /**
+   * Discard the decisions of a principal, it should be called when the principal logs in or out.
+   *
+   * @param principal the principal
+   */
+  public void invalidate(Object principal) {
+    if (principal != null) {
+      entries.remove(principal);
+    }
+  }
+
+  private Entry getEntry(Subject subject) {
+    Object principal = subject.getPrincipal();
+    if (principal == null) {
+      return null;
+    }
+    long now = System.currentTimeMillis();
+    Entry entry = entries.get(principal);
+    if (entry == null || entry.expiration < now) {
+      if (entries.size() > PURGE_THRESHOLD) {
+        purge(now);
+      }
+      entries.put(principal, entry = new Entry(now + ttl));
+    }
+    return entry;
+  }
+
+  private void purge(long now) {
+    for (Iterator<Entry> i = entries.values().iterator();i.hasNext();) {
+      if (i.next().expiration < now) {
+        i.remove();
+      }
+    }
+  }
+
+  private static class Entry {
+
+    /** . */
+    final long expiration;
+
+    /** . */
+    final ConcurrentHashMap<String, Boolean> roles = new ConcurrentHashMap<String, Boolean>();
+
+    /** . */
+    final ConcurrentHashMap<String, Boolean> permissions = new ConcurrentHashMap<String, Boolean>();
+
+    private Entry(long expiration) {
+      this.expiration = expiration;
+    }
+  }
+}
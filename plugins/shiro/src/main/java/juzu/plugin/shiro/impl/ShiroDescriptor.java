@@ -18,15 +18,19 @@
 package juzu.plugin.shiro.impl;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import juzu.Response;
 import juzu.Scope;
 import juzu.impl.common.JSON;
+import juzu.impl.common.MethodHandle;
 import juzu.impl.inject.BeanDescriptor;
 import juzu.impl.plugin.ServiceContext;
 import juzu.impl.plugin.ServiceDescriptor;
 
 import juzu.impl.request.Stage;
+import org.apache.shiro.SecurityUtils;
 import org.apache.shiro.mgt.SecurityManager;
 
 /**
@@ -47,14 +51,44 @@ public class ShiroDescriptor extends ServiceDescriptor {
   /** .*/
   private ServiceContext context;
 
+  /** The controller rules keyed by controller type name. */
+  private final Map<String, ShiroRule> controllerRules;
+
+  /** The method rules keyed by method handle. */
+  private final Map<MethodHandle, ShiroRule> methodRules;
+
   ShiroDescriptor(ServiceContext context) {
     JSON config = context.getConfig();
+    Integer ttl = config.getInteger("decisionCacheTTL");
     this.authenticater = new ShiroAuthenticator(config.get("rememberMe") != null ? true : false);
-    this.authorizer = new ShiroAuthorizor();
+    this.authorizer = new ShiroAuthorizor(ttl != null && ttl > 0 ? new ShiroDecisionCache(ttl) : null);
     this.context = context;
     this.bean =
       BeanDescriptor
         .createFromProvider(SecurityManager.class, Scope.SESSION, null, new SecurityManagerProvider(config));
+
+    //
+    HashMap<String, ShiroRule> controllerRules = new HashMap<String, ShiroRule>();
+    HashMap<MethodHandle, ShiroRule> methodRules = new HashMap<MethodHandle, ShiroRule>();
+    for (String controllerId : config.names()) {
+      Object value = config.get(controllerId);
+      if (value instanceof JSON) {
+        JSON controllerJSON = (JSON)value;
+        if (controllerJSON.get("require") != null) {
+          controllerRules.put(controllerId, ShiroRule.compile(controllerJSON));
+        }
+        JSON methodsJSON = controllerJSON.getJSON("methods");
+        if (methodsJSON != null) {
+          for (String methodId : methodsJSON.names()) {
+            methodRules.put(MethodHandle.parse(controllerId + "#" + methodId), ShiroRule.compile(methodsJSON.getJSON(methodId)));
+          }
+        }
+      }
+    }
+
+    //
+    this.controllerRules = controllerRules;
+    this.methodRules = methodRules;
   }
 
   public JSON getConfig() {
@@ -71,61 +105,50 @@ public class ShiroDescriptor extends ServiceDescriptor {
   }
 
   public Response invoke(Stage.Handler stage) {
-    //
-    String methodId = stage.getRequest().getHandler().getHandle().toString();
-    String controllerId = methodId.substring(0, methodId.indexOf('#'));
-    methodId = methodId.substring(controllerId.length() + 1);
-    JSON controllerJSON = getConfig().getJSON(controllerId);
-    if (controllerJSON == null) {
-      return stage.invoke();
-    }
+    MethodHandle handle = stage.getRequest().getHandler().getHandle();
+    ShiroRule controllerRule = controllerRules.get(handle.getType());
+    ShiroRule methodRule = methodRules.get(handle);
 
     //
-    JSON methodsJSON = controllerJSON.getJSON("methods");
-    JSON methodJSON;
-
-    if (controllerJSON.get("require") != null) {
-      Response resp = authorizer.isAuthorized(stage, controllerJSON);
+    if (controllerRule != null) {
+      Response resp = authorizer.isAuthorized(stage, controllerRule);
       if (resp != null) {
         return resp;
-      } else {
-        if (methodsJSON == null) {
-          return stage.invoke();
-        }
-
-        methodJSON = methodsJSON.getJSON(methodId);
-        if (methodJSON == null) {
-          return stage.invoke();
-        }
-
-        return doInvoke(stage, methodJSON);
       }
     }
 
-    if (methodsJSON == null) {
-      return stage.invoke();
-    }
-
-    methodJSON = methodsJSON.getJSON(methodId);
-    if (methodJSON == null) {
+    //
+    if (methodRule == null) {
       return stage.invoke();
+    } else {
+      return doInvoke(stage, methodRule);
     }
-
-    return doInvoke(stage, methodJSON);
   }
 
-  private Response doInvoke(Stage.Handler request, JSON json) {
-    Response resp = authorizer.isAuthorized(request, json);
+  private Response doInvoke(Stage.Handler request, ShiroRule rule) {
+    Response resp = authorizer.isAuthorized(request, rule);
     if (resp != null) {
       return resp;
-    } else {
-      if ("login".equals(json.get("operator"))) {
-        return authenticater.doLogin(request);
-      } else if ("logout".equals(json.get("operator"))) {
-        return authenticater.doLogout(request);
-      } else {
-        return request.invoke();
+    } else if (rule.operator != null) {
+      ShiroDecisionCache cache = authorizer.getCache();
+      if (cache != null) {
+        cache.invalidate(SecurityUtils.getSubject().getPrincipal());
+      }
+      try {
+        switch (rule.operator) {
+          case LOGIN:
+            return authenticater.doLogin(request);
+          default:
+            return authenticater.doLogout(request);
+        }
       }
+      finally {
+        if (cache != null) {
+          cache.invalidate(SecurityUtils.getSubject().getPrincipal());
+        }
+      }
+    } else {
+      return request.invoke();
     }
   }
 }
@@ -81,6 +81,7 @@ public class ShiroMetaModelPlugin extends ApplicationMetaModelPlugin {
       JSON json = new JSON();
       json.set("rememberMe", added.get("rememberMe"));
       json.set("config", added.get("config"));
+      json.set("decisionCacheTTL", added.get("decisionCacheTTL"));
       List<AnnotationState> realms = (List<AnnotationState>)added.get("realms");
       JSON realmsJSON = new JSON();
       if (realms != null) {
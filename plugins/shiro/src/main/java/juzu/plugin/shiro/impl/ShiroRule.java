@@ -0,0 +1,209 @@
+/*
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package juzu.plugin.shiro.impl;
+
+import java.util.List;
+
+import juzu.impl.common.JSON;
+
+import org.apache.shiro.authz.annotation.Logical;
+import org.apache.shiro.subject.Subject;
+
+/**
+ * The compiled form of a controller or method configuration, built once when the service starts so that
+ * authorizing a request does not need to read the json configuration.
+ *
+ * @author <a href="mailto:haithanh0809@gmail.com">Nguyen Thanh Hai</a>
+ * @version $Id$
+ * 
+ */
+public class ShiroRule {
+
+  /** . */
+  enum Require {
+    GUEST, USER, AUTHENTICATE
+  }
+
+  /** . */
+  enum Operator {
+    LOGIN, LOGOUT
+  }
+
+  /** . */
+  private static final String[] NO_VALUES = new String[0];
+
+  public static ShiroRule compile(JSON config) {
+    if (config == null) {
+      return null;
+    }
+
+    //
+    Require require = null;
+    Object obj = config.get("require");
+    if ("guest".equals(obj)) {
+      require = Require.GUEST;
+    } else if ("authenticate".equals(obj)) {
+      require = Require.AUTHENTICATE;
+    } else if ("user".equals(obj)) {
+      require = Require.USER;
+    }
+
+    //
+    Operator operator = null;
+    obj = config.get("operator");
+    if ("login".equals(obj)) {
+      operator = Operator.LOGIN;
+    } else if ("logout".equals(obj)) {
+      operator = Operator.LOGOUT;
+    }
+
+    //
+    JSON roles = config.getJSON("roles");
+    JSON permissions = config.getJSON("permissions");
+    return new ShiroRule(
+      config,
+      config.get("require") != null && require == null,
+      require,
+      values(roles),
+      isAnd(roles),
+      values(permissions),
+      isAnd(permissions),
+      operator);
+  }
+
+  private static String[] values(JSON json) {
+    if (json == null) {
+      return null;
+    }
+    List<String> values = (List<String>)json.get("value");
+    return values != null ? values.toArray(new String[values.size()]) : NO_VALUES;
+  }
+
+  private static boolean isAnd(JSON json) {
+    if (json == null) {
+      return true;
+    } else {
+      Object logical = json.get("logical");
+      return logical == null || Logical.valueOf(logical.toString()) == Logical.AND;
+    }
+  }
+
+  /** The original configuration, kept for error reporting. */
+  final JSON config;
+
+  /** True for an unknown requirement that always denies access. */
+  final boolean deny;
+
+  /** . */
+  final Require require;
+
+  /** . */
+  final String[] roles;
+
+  /** . */
+  final boolean allRoles;
+
+  /** . */
+  final String[] permissions;
+
+  /** . */
+  final boolean allPermissions;
+
+  /** . */
+  final Operator operator;
+
+  private ShiroRule(
+    JSON config,
+    boolean deny,
+    Require require,
+    String[] roles,
+    boolean allRoles,
+    String[] permissions,
+    boolean allPermissions,
+    Operator operator) {
+    this.config = config;
+    this.deny = deny;
+    this.require = require;
+    this.roles = roles;
+    this.allRoles = allRoles;
+    this.permissions = permissions;
+    this.allPermissions = allPermissions;
+    this.operator = operator;
+  }
+
+  /**
+   * Verify the rule against the subject.
+   *
+   * @param subject the subject
+   * @param cache the decision cache, it may be null
+   * @return true when access is granted
+   */
+  public boolean verify(Subject subject, ShiroDecisionCache cache) {
+    if (deny) {
+      return false;
+    } else if (require != null) {
+      switch (require) {
+        case GUEST:
+          return subject.getPrincipal() == null;
+        case AUTHENTICATE:
+          return subject.isAuthenticated();
+        default:
+          return subject.getPrincipal() != null;
+      }
+    } else {
+      if (roles != null && !hasRoles(subject, cache)) {
+        return false;
+      }
+      if (permissions != null && !hasPermissions(subject, cache)) {
+        return false;
+      }
+      return true;
+    }
+  }
+
+  private boolean hasRoles(Subject subject, ShiroDecisionCache cache) {
+    if (!subject.isAuthenticated() || roles.length == 0) {
+      return false;
+    }
+    for (String role : roles) {
+      boolean granted = cache != null ? cache.hasRole(subject, role) : subject.hasRole(role);
+      if (granted != allRoles) {
+        return granted;
+      }
+    }
+    return allRoles;
+  }
+
+  private boolean hasPermissions(Subject subject, ShiroDecisionCache cache) {
+    if (!subject.isAuthenticated() || permissions.length == 0) {
+      return false;
+    }
+    for (String permission : permissions) {
+      boolean granted = cache != null ? cache.isPermitted(subject, permission) : subject.isPermitted(permission);
+      if (granted != allPermissions) {
+        return granted;
+      }
+    }
+    return allPermissions;
+  }
+
+  @Override
+  public String toString() {
+    return config.toString();
+  }
+}
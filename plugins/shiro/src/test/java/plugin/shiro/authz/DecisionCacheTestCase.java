@@ -0,0 +1,101 @@
+/*
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package plugin.shiro.authz;
+
+import juzu.impl.common.JSON;
+import juzu.impl.common.Tools;
+import juzu.plugin.shiro.impl.ShiroDecisionCache;
+import juzu.plugin.shiro.impl.ShiroRule;
+import juzu.test.AbstractTestCase;
+
+import org.apache.shiro.authc.UsernamePasswordToken;
+import org.apache.shiro.authz.AuthorizationInfo;
+import org.apache.shiro.authz.annotation.Logical;
+import org.apache.shiro.mgt.DefaultSecurityManager;
+import org.apache.shiro.subject.PrincipalCollection;
+import org.apache.shiro.subject.Subject;
+import org.junit.Test;
+
+import plugin.shiro.SimpleRealm;
+
+/**
+ * @author <a href="mailto:haithanh0809@gmail.com">Nguyen Thanh Hai</a>
+ * @version $Id$
+ * 
+ */
+public class DecisionCacheTestCase extends AbstractTestCase {
+
+  static class CountingRealm extends SimpleRealm {
+    int count;
+    @Override
+    protected AuthorizationInfo doGetAuthorizationInfo(PrincipalCollection principals) {
+      count++;
+      return super.doGetAuthorizationInfo(principals);
+    }
+  }
+
+  private static ShiroRule roles(Logical logical, String... roles) {
+    return ShiroRule.compile(new JSON().set("roles", new JSON().set("value", Tools.list(roles)).set("logical", logical.name())));
+  }
+
+  @Test
+  public void testRule() throws Exception {
+    DefaultSecurityManager manager = new DefaultSecurityManager(new SimpleRealm());
+    Subject subject = new Subject.Builder(manager).buildSubject();
+    assertTrue(ShiroRule.compile(new JSON().set("require", "guest")).verify(subject, null));
+    assertFalse(ShiroRule.compile(new JSON().set("require", "user")).verify(subject, null));
+    assertFalse(roles(Logical.OR, "role2").verify(subject, null));
+
+    //
+    subject.login(new UsernamePasswordToken("john", "foo"));
+    assertFalse(ShiroRule.compile(new JSON().set("require", "guest")).verify(subject, null));
+    assertTrue(ShiroRule.compile(new JSON().set("require", "authenticate")).verify(subject, null));
+    assertTrue(roles(Logical.AND, "role2").verify(subject, null));
+    assertFalse(roles(Logical.AND, "role1", "role2").verify(subject, null));
+    assertTrue(roles(Logical.OR, "role1", "role2").verify(subject, null));
+
+    // Without logical the roles are all required
+    JSON config = new JSON().set("roles", new JSON().set("value", Tools.list("role1", "role2")));
+    assertFalse(ShiroRule.compile(config).verify(subject, null));
+    config = new JSON().set("roles", new JSON().set("value", Tools.list("role2")));
+    assertTrue(ShiroRule.compile(config).verify(subject, null));
+  }
+
+  @Test
+  public void testCache() throws Exception {
+    CountingRealm realm = new CountingRealm();
+    DefaultSecurityManager manager = new DefaultSecurityManager(realm);
+    Subject subject = new Subject.Builder(manager).buildSubject();
+    subject.login(new UsernamePasswordToken("john", "foo"));
+
+    //
+    ShiroDecisionCache cache = new ShiroDecisionCache(60 * 1000);
+    ShiroRule rule = roles(Logical.AND, "role2");
+    assertTrue(rule.verify(subject, cache));
+    int count = realm.count;
+    assertTrue(rule.verify(subject, cache));
+    assertTrue(cache.isPermitted(subject, "permission2"));
+    assertTrue(cache.isPermitted(subject, "permission2"));
+    assertEquals(count + 1, realm.count);
+
+    //
+    cache.invalidate(subject.getPrincipal());
+    assertTrue(rule.verify(subject, cache));
+    assertEquals(count + 2, realm.count);
+  }
+}
@@ -16,25 +16,46 @@
 package juzu.plugin.upload;
 
 import juzu.impl.request.ContextualParameter;
+import juzu.impl.request.EntityTooLargeException;
 import juzu.impl.request.EntityUnmarshaller;
 import juzu.request.ClientContext;
 import juzu.request.RequestParameter;
 import org.apache.commons.fileupload.FileItem;
+import org.apache.commons.fileupload.FileItemHeadersSupport;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
 import org.apache.commons.fileupload.FileUpload;
+import org.apache.commons.fileupload.FileUploadBase;
 import org.apache.commons.fileupload.FileUploadException;
 import org.apache.commons.fileupload.disk.DiskFileItemFactory;
+import org.apache.commons.fileupload.util.Streams;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
+ * Unmarshall a multipart entity with the commons-fileupload streaming API. A file part is bound to a contextual
+ * parameter of the same name:
+ * <ul>
+ *   <li>a {@link FileItem} parameter receives the file stored in memory or on disk</li>
+ *   <li>an {@link InputStream} or a {@link FileItemStream} parameter receives the part content as a stream that
+ *   the controller reads. The parts after the streamed part are not read, so the form fields must be sent
+ *   before it</li>
+ * </ul>
+ * The file parts not bound to a parameter are skipped. The size limits and the memory threshold are configured
+ * with the {@link Upload} annotation, a request exceeding a size limit is answered with the <code>413</code> status.
+ * The form fields are decoded with the request character encoding.
+ *
  * @author Julien Viet
  */
 public class FileUploadUnmarshaller extends EntityUnmarshaller {
 
+  /** The charset of the form fields when the request does not declare one. */
+  private static final String DEFAULT_CHARSET = "ISO-8859-1";
+
   @Override
   public boolean accept(String mediaType) {
     return mediaType.startsWith("multipart/");
@@ -62,34 +83,138 @@ public class FileUploadUnmarshaller extends EntityUnmarshaller {
       }
     };
 
+    // Index the arguments by name and find the upload configuration
+    Upload config = null;
+    HashMap<String, Map.Entry<ContextualParameter, Object>> arguments = new HashMap<String, Map.Entry<ContextualParameter, Object>>();
+    for (Map.Entry<ContextualParameter, Object> argument : contextualArguments) {
+      ContextualParameter contextualParam = argument.getKey();
+      Upload annotation = contextualParam.getAnnotations().getAnnotation(Upload.class);
+      if (annotation != null) {
+        config = annotation;
+      }
+      arguments.put(contextualParam.getName(), argument);
+    }
+
+    //
+    DiskFileItemFactory factory = new DiskFileItemFactory();
+    FileUpload upload = new FileUpload(factory);
+    if (config != null) {
+      factory.setSizeThreshold(config.threshold());
+      upload.setSizeMax(config.sizeMax());
+      upload.setFileSizeMax(config.fileSizeMax());
+    }
+
+    // The charset of the form fields
+    String charset = context.getCharacterEncoding();
+    if (charset == null) {
+      charset = DEFAULT_CHARSET;
+    }
+
     //
-    FileUpload upload = new FileUpload(new DiskFileItemFactory());
     try {
-      List<FileItem> list = (List<FileItem>)upload.parseRequest(ctx);
-      HashMap<String, FileItem> files = new HashMap<String, FileItem>();
-      for (FileItem file : list) {
-        String name = file.getFieldName();
-        if (file.isFormField()) {
+      FileItemIterator i = upload.getItemIterator(ctx);
+      while (i.hasNext()) {
+        FileItemStream item = i.next();
+        String name = item.getFieldName();
+        if (item.isFormField()) {
+          String value = Streams.asString(item.openStream(), charset);
           RequestParameter parameterArg = parameterArguments.get(name);
           if (parameterArg == null) {
-            parameterArguments.put(name, RequestParameter.create(name, file.getString()));
+            parameterArguments.put(name, RequestParameter.create(name, value));
           } else {
-            parameterArguments.put(name, parameterArg.append(new String[]{file.getString()}));
+            parameterArguments.put(name, parameterArg.append(new String[]{value}));
           }
         } else {
-          files.put(name, file);
-        }
-      }
-      for (Map.Entry<ContextualParameter, Object> argument : contextualArguments) {
-        ContextualParameter contextualParam = argument.getKey();
-        FileItem file = files.get(contextualParam.getName());
-        if (file != null && FileItem.class.isAssignableFrom(contextualParam.getType())) {
-          argument.setValue(file);
+          Map.Entry<ContextualParameter, Object> argument = arguments.get(name);
+          if (argument != null) {
+            Class<?> type = argument.getKey().getType();
+            if (type == InputStream.class) {
+              argument.setValue(new LimitedStream(item.openStream()));
+              break;
+            } else if (type == FileItemStream.class) {
+              argument.setValue(item);
+              break;
+            } else if (FileItem.class.isAssignableFrom(type)) {
+              argument.setValue(store(factory, item));
+            }
+          }
         }
       }
     }
+    catch (FileUploadBase.FileUploadIOException e) {
+      throw rethrow(e);
+    }
     catch (FileUploadException e) {
-      throw new IOException(e);
+      if (isSizeLimit(e)) {
+        throw new EntityTooLargeException(e.getMessage(), e);
+      } else {
+        throw new IOException(e);
+      }
+    }
+  }
+
+  private static boolean isSizeLimit(Throwable t) {
+    return t instanceof FileUploadBase.SizeLimitExceededException || t instanceof FileUploadBase.FileSizeLimitExceededException;
+  }
+
+  /**
+   * Translates the size limit failure of a part stream into an {@link EntityTooLargeException}.
+   */
+  private static IOException rethrow(FileUploadBase.FileUploadIOException e) {
+    if (isSizeLimit(e.getCause())) {
+      return new EntityTooLargeException(e.getCause().getMessage(), e.getCause());
+    } else {
+      return e;
+    }
+  }
+
+  private static FileItem store(DiskFileItemFactory factory, FileItemStream item) throws IOException {
+    FileItem file = factory.createItem(item.getFieldName(), item.getContentType(), item.isFormField(), item.getName());
+    Streams.copy(item.openStream(), file.getOutputStream(), true);
+    if (file instanceof FileItemHeadersSupport) {
+      ((FileItemHeadersSupport)file).setHeaders(item.getHeaders());
+    }
+    return file;
+  }
+
+  /**
+   * The stream of a part handed to the controller, a size limit exceeded while the controller reads it fails
+   * with an {@link EntityTooLargeException}.
+   */
+  private static class LimitedStream extends FilterInputStream {
+
+    private LimitedStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      try {
+        return super.read();
+      }
+      catch (FileUploadBase.FileUploadIOException e) {
+        throw rethrow(e);
+      }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      try {
+        return super.read(b, off, len);
+      }
+      catch (FileUploadBase.FileUploadIOException e) {
+        throw rethrow(e);
+      }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      try {
+        return super.skip(n);
+      }
+      catch (FileUploadBase.FileUploadIOException e) {
+        throw rethrow(e);
+      }
     }
   }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package juzu.plugin.upload;
+
+import org.apache.commons.fileupload.disk.DiskFileItemFactory;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the upload of a multipart request, this annotation is declared on a file parameter of the
+ * controller method. An upload exceeding a size limit is answered with the <code>413</code> status:
+ * <ul>
+ *   <li>a request whose declared length exceeds the request limit or a file stored in a <code>FileItem</code>
+ *   that exceeds the file limit is rejected before the controller is invoked</li>
+ *   <li>a file streamed to an <code>InputStream</code> parameter is only checked while the controller reads it,
+ *   the stream fails with an <code>EntityTooLargeException</code> that the controller should let propagate</li>
+ *   <li>a file streamed to a <code>FileItemStream</code> parameter is also checked while the controller reads it,
+ *   the stream fails with a <code>FileUploadIOException</code> that the controller handles</li>
+ * </ul>
+ *
+ * @author Julien Viet
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface Upload {
+
+  /**
+   * @return the maximum size of the request entity in bytes, a negative value means no limit
+   */
+  long sizeMax() default -1;
+
+  /**
+   * @return the maximum size of an uploaded file in bytes, a negative value means no limit
+   */
+  long fileSizeMax() default -1;
+
+  /**
+   * @return the size in bytes under which a file item is kept in memory instead of being written to disk
+   */
+  int threshold() default DiskFileItemFactory.DEFAULT_SIZE_THRESHOLD;
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package juzu.plugin.upload;
+
+import juzu.impl.common.Tools;
+import juzu.test.AbstractWebTestCase;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class StreamServletUploadTestCase extends AbstractWebTestCase {
+
+  @Deployment(testable = false)
+  public static WebArchive createDeployment() {
+    return createServletDeployment(true, "plugin.upload.stream");
+  }
+
+  @Test
+  public void testStream() throws Exception {
+    HttpURLConnection conn = post("HELLO");
+    assertEquals(200, conn.getResponseCode());
+    assertEquals("text_value:HELLO", Tools.read(conn.getInputStream()));
+  }
+
+  @Test
+  public void testFileSizeMax() throws Exception {
+    HttpURLConnection conn = post("HELLO_HELLO_HELLO_HELLO");
+    assertEquals(413, conn.getResponseCode());
+  }
+
+  private HttpURLConnection post(String content) throws Exception {
+    String boundary = "juzuboundary";
+    String body =
+        "--" + boundary + "\r\n" +
+        "Content-Disposition: form-data; name=\"text\"\r\n" +
+        "\r\n" +
+        "text_value\r\n" +
+        "--" + boundary + "\r\n" +
+        "Content-Disposition: form-data; name=\"file\"; filename=\"file.txt\"\r\n" +
+        "Content-Type: text/plain\r\n" +
+        "\r\n" +
+        content + "\r\n" +
+        "--" + boundary + "--\r\n";
+    HttpURLConnection conn = (HttpURLConnection)applicationURL("/stream").openConnection();
+    conn.setRequestMethod("POST");
+    conn.setDoOutput(true);
+    conn.setRequestProperty("Content-Type", "multipart/form-data; boundary=" + boundary);
+    OutputStream out = conn.getOutputStream();
+    out.write(body.getBytes(Tools.UTF_8));
+    out.close();
+    return conn;
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2013 eXo Platform SAS
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plugin.upload.stream;
+
+import juzu.Resource;
+import juzu.Response;
+import juzu.Route;
+import juzu.impl.common.Tools;
+import juzu.plugin.upload.Upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/** @author <a href="mailto:julien.viet@exoplatform.com">Julien Viet</a> */
+public class A {
+
+  @Resource
+  @Route("/stream")
+  public Response.Content stream(String text, @Upload(fileSizeMax = 16) InputStream file) throws IOException {
+    return Response.ok(text + ":" + (file != null ? Tools.read(file) : null));
+  }
+}
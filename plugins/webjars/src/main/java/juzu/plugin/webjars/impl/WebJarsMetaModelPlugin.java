@@ -43,6 +43,7 @@ import juzu.impl.metamodel.AnnotationState;
 import juzu.impl.plugin.application.metamodel.ApplicationMetaModel;
 import juzu.impl.plugin.application.metamodel.ApplicationMetaModelPlugin;
 import juzu.impl.plugin.asset.AssetsMetaModel;
+import juzu.impl.plugin.module.metamodel.ModuleMetaModel;
 import juzu.plugin.webjars.WebJars;
 
 import org.webjars.WebJarAssetLocator;
@@ -69,6 +70,12 @@ public class WebJarsMetaModelPlugin extends ApplicationMetaModelPlugin {
 
   /** . */
   static final Logger log = BaseProcessor.getLogger(WebJarsMetaModelPlugin.class);
+
+  /** The locator indexing the webjars of the classpath, it is built once and shared by the webjar declarations. */
+  private transient WebJarAssetLocator locator;
+
+  /** The webjar versions read from the pom properties. */
+  private transient HashMap<String, String> versions;
   
   public WebJarsMetaModelPlugin() {
     super("webjars");
@@ -116,37 +123,16 @@ public class WebJarsMetaModelPlugin extends ApplicationMetaModelPlugin {
 
         //
         if (version == null || version.length() == 0) {
-          String path = "META-INF/maven/org.webjars/" + id + "/pom.properties";
-          URL resource = WebJarAssetLocator.class.getClassLoader().getResource(path);
-          ElementHandle.Package pkgHandle = ElementHandle.Package.create(pkg);
-          PackageElement pkgElt = env.get(pkgHandle);
-          if (resource == null) {
-            throw MISSING_WEBJAR.failure(pkgElt, id);
-          } else {
-            Properties props = new Properties();
-            InputStream in = null;
-            try {
-              in = resource.openStream();
-              props.load(in);
-              version = props.getProperty("version");
-            }
-            catch (IOException e) {
-              throw INVALID_WEBJAR.failure(pkgElt, id, "Could not read " + path).initCause(e);
-            }
-            finally {
-              Tools.safeClose(in);
-            }
-            if (version == null) {
-              throw INVALID_WEBJAR.failure(pkgElt, id, "No version found in " + path);
-            }
-          }
+          version = resolveVersion(env.get(ElementHandle.Package.create(pkg)), id);
         }
 
         //
         Boolean strip = (Boolean)webJar.get("stripVersion");
 
         //
-        WebJarAssetLocator locator = new WebJarAssetLocator();
+        if (locator == null) {
+          locator = new WebJarAssetLocator();
+        }
         String folderPath = "/" + id + "/" + version;
         Set<String> assetsPaths = locator.listAssets(folderPath);
         log.info("Webjars " + webJar + " resolved assets " + assetsPaths + " from " + folderPath);
@@ -179,4 +165,43 @@ public class WebJarsMetaModelPlugin extends ApplicationMetaModelPlugin {
     //
     return ret;
   }
+
+  private String resolveVersion(PackageElement pkgElt, String id) {
+    if (versions == null) {
+      versions = new HashMap<String, String>();
+    }
+    String version = versions.get(id);
+    if (version == null) {
+      String path = "META-INF/maven/org.webjars/" + id + "/pom.properties";
+      URL resource = WebJarAssetLocator.class.getClassLoader().getResource(path);
+      if (resource == null) {
+        throw MISSING_WEBJAR.failure(pkgElt, id);
+      } else {
+        Properties props = new Properties();
+        InputStream in = null;
+        try {
+          in = resource.openStream();
+          props.load(in);
+          version = props.getProperty("version");
+        }
+        catch (IOException e) {
+          throw INVALID_WEBJAR.failure(pkgElt, id, "Could not read " + path).initCause(e);
+        }
+        finally {
+          Tools.safeClose(in);
+        }
+        if (version == null) {
+          throw INVALID_WEBJAR.failure(pkgElt, id, "No version found in " + path);
+        }
+      }
+      versions.put(id, version);
+    }
+    return version;
+  }
+
+  @Override
+  public void prePassivate(ModuleMetaModel applications) {
+    locator = null;
+    versions = null;
+  }
 }